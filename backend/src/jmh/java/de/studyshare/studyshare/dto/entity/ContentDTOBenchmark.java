@@ -0,0 +1,90 @@
+package de.studyshare.studyshare.dto.entity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.studyshare.studyshare.domain.Content;
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Lecturer;
+import de.studyshare.studyshare.domain.Role;
+import de.studyshare.studyshare.domain.User;
+
+/**
+ * Maps fully populated content graphs to {@link ContentDTO}s, one at a time
+ * and as a page of the default listing size. Every content has its own
+ * uploader, faculty, lecturer and course, whose lecturers are mapped to IDs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentDTOBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "1", "10" })
+    private int lecturersPerCourse;
+
+    private Content content;
+
+    private List<Content> page;
+
+    @Setup
+    public void setUp() {
+        page = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            page.add(content(id));
+        }
+        content = page.get(0);
+    }
+
+    private Content content(long id) {
+        Faculty faculty = new Faculty(id, "Faculty " + id);
+        Course course = new Course("Course " + id, faculty);
+        course.setId(id);
+        Lecturer lecturer = null;
+        for (long i = 0; i < lecturersPerCourse; i++) {
+            Lecturer courseLecturer = new Lecturer("Lecturer " + id + "-" + i, "lecturer" + id + "-" + i + "@example.com");
+            courseLecturer.setId(id * 100 + i);
+            course.addLecturer(courseLecturer);
+            if (lecturer == null) {
+                lecturer = courseLecturer;
+            }
+        }
+        User uploader = new User("First", "Last", "user" + id + "@example.com", "user" + id, "hash", Role.STUDENT);
+        uploader.setId(id);
+        Content result = new Content("Lecture notes " + id, "uploads/" + id + ".pdf", ContentCategory.PDF, faculty,
+                course, lecturer, uploader, LocalDate.of(2025, 1, 1), 0, 0);
+        result.setId(id);
+        result.setAverageRating(4.5);
+        return result;
+    }
+
+    @Benchmark
+    public ContentDTO fromEntity() {
+        return ContentDTO.fromEntity(content);
+    }
+
+    @Benchmark
+    public List<ContentDTO> fromEntityPage() {
+        return page.stream().map(ContentDTO::fromEntity).toList();
+    }
+}
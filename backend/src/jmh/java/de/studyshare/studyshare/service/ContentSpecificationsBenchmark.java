@@ -0,0 +1,104 @@
+package de.studyshare.studyshare.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import de.studyshare.studyshare.domain.BlocklistedToken;
+import de.studyshare.studyshare.domain.CatalogChange;
+import de.studyshare.studyshare.domain.CatalogVersion;
+import de.studyshare.studyshare.domain.Content;
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.ContentSignal;
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Lecturer;
+import de.studyshare.studyshare.domain.Review;
+import de.studyshare.studyshare.domain.SchedulerLock;
+import de.studyshare.studyshare.domain.UploadSession;
+import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.domain.UserInvalidation;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Builds the predicates of the content listing filters against Hibernate's
+ * criteria builder. The session factory is built from the entity mappings
+ * only, without connecting to a database. {@code emptyQuery} measures the
+ * criteria query and root every other benchmark creates as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentSpecificationsBenchmark {
+
+    private SessionFactory sessionFactory;
+
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        MetadataSources metadataSources = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.MariaDBDialect")
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.cache.use_second_level_cache", "false")
+                .build());
+        for (Class<?> entity : new Class<?>[] { BlocklistedToken.class, CatalogChange.class, CatalogVersion.class,
+                Content.class, ContentSignal.class, Course.class, Faculty.class, Lecturer.class, Review.class,
+                SchedulerLock.class, UploadSession.class, User.class, UserInvalidation.class }) {
+            metadataSources.addAnnotatedClass(entity);
+        }
+        sessionFactory = metadataSources.buildMetadata().buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    private Predicate toPredicate(Specification<Content> specification) {
+        CriteriaQuery<Content> query = criteriaBuilder.createQuery(Content.class);
+        Root<Content> root = query.from(Content.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Root<Content> emptyQuery() {
+        return criteriaBuilder.createQuery(Content.class).from(Content.class);
+    }
+
+    @Benchmark
+    public Predicate filterByIds() {
+        return toPredicate(ContentSpecifications.filterBy(1L, 2L, 3L, ContentCategory.PDF, null));
+    }
+
+    @Benchmark
+    public Predicate filterBySearchTerm() {
+        return toPredicate(ContentSpecifications.filterBy(null, null, null, null, "intro to java basics"));
+    }
+
+    @Benchmark
+    public Predicate filterByAll() {
+        return toPredicate(ContentSpecifications.filterBy(1L, 2L, 3L, ContentCategory.PDF, "intro to java basics"));
+    }
+}
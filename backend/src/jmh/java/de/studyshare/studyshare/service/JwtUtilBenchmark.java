@@ -0,0 +1,75 @@
+package de.studyshare.studyshare.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Generates, parses and validates tokens the way the login endpoint and the
+ * request filter do. {@code parseCached} is the path of a client sending the
+ * same token again, {@code parseUncached} the signature check every new token
+ * pays once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "515c5eca00fa1f93d12c06d3e1594f86e21bea5aa42feb64eb172faf7114aafc"
+            + "70f5193ebcc16db05da0ef71b97f9bb354d79c27c5cc13aa209a34c7305c1096";
+
+    private JwtUtil jwtUtil;
+
+    private UserPrincipal principal;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 10_000L);
+        jwtUtil.init();
+        principal = new UserPrincipal(42L, "testuser", "hash", List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+        token = jwtUtil.generateToken(principal);
+        jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(principal);
+    }
+
+    @Benchmark
+    public JwtClaims parseCached() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public String parseUncached() {
+        return jwtUtil.extractClaim(token, Claims::getSubject);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+}
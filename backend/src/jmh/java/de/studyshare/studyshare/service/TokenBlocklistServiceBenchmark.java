@@ -0,0 +1,102 @@
+package de.studyshare.studyshare.service;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import de.studyshare.studyshare.domain.BlocklistedToken;
+import de.studyshare.studyshare.repository.BlocklistedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks tokens against a blocklist of {@code blocklistSize} revoked JTIs, as
+ * the request filter does for every authenticated request. The repository is
+ * an in-memory stand-in that confirms every JTI it is asked about, so the
+ * blocklisted case measures the service without a database round trip.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenBlocklistServiceBenchmark {
+
+    @Param({ "10000" })
+    private int blocklistSize;
+
+    private TokenBlocklistService tokenBlocklistService;
+
+    private String validToken;
+
+    private String blocklistedToken;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 10_000L);
+        jwtUtil.init();
+        validToken = jwtUtil.generateToken("valid");
+        blocklistedToken = jwtUtil.generateToken("revoked");
+
+        Instant expiry = Instant.now().plus(1, ChronoUnit.HOURS);
+        List<BlocklistedToken> blocklisted = new ArrayList<>();
+        for (int i = 1; i < blocklistSize; i++) {
+            blocklisted.add(new BlocklistedToken(UUID.randomUUID().toString(), expiry));
+        }
+        blocklisted.add(new BlocklistedToken(jwtUtil.extractJti(blocklistedToken), expiry));
+
+        tokenBlocklistService = new TokenBlocklistService(repository(blocklisted), jwtUtil, new BlocklistSyncChannel() {
+            @Override
+            public void publish(String jti, Instant expiryDate) {
+            }
+
+            @Override
+            public void subscribe(BiConsumer<String, Instant> listener) {
+            }
+        }, null, new SimpleMeterRegistry());
+        tokenBlocklistService.loadBlocklist();
+    }
+
+    private static BlocklistedTokenRepository repository(List<BlocklistedToken> blocklisted) {
+        return (BlocklistedTokenRepository) Proxy.newProxyInstance(
+                BlocklistedTokenRepository.class.getClassLoader(),
+                new Class<?>[] { BlocklistedTokenRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByExpiryDateAfter" -> blocklisted;
+                    case "existsByJti" -> true;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Benchmark
+    public boolean isBlocklistedValid() {
+        return tokenBlocklistService.isBlocklisted(validToken);
+    }
+
+    @Benchmark
+    public boolean isBlocklistedRevoked() {
+        return tokenBlocklistService.isBlocklisted(blocklistedToken);
+    }
+}
@@ -0,0 +1,312 @@
+package de.studyshare.studyshare;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.studyshare.studyshare.domain.CatalogEntityType;
+import de.studyshare.studyshare.domain.CatalogVersion;
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.Role;
+import de.studyshare.studyshare.service.CatalogCache;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Seeds large numbers of users, faculties, lecturers, courses, content items
+ * and reviews with multi-row INSERT statements, for load tests and local
+ * experiments with realistic table sizes. Millions of rows take minutes this
+ * way instead of the hours the API would need.
+ * The rows bypass the API and Hibernate, so the seeder evicts the
+ * second-level cache and the catalog cache when it is done. The catalog rows
+ * are inserted in one transaction that also increments the catalog version
+ * and logs every seeded faculty, lecturer and course as changed, so clients
+ * holding an older catalog version receive them as a delta. The rating
+ * columns of each content item are filled in from its seeded reviews.
+ * Content rows reference the given file paths round-robin; these objects are
+ * expected to exist in S3 already, so seeded content can be downloaded.
+ */
+public class BulkDataSeeder {
+
+    /**
+     * Words the content titles are made of, two per title, so searching for
+     * any of them finds content.
+     */
+    public static final List<String> TITLE_WORDS = List.of("algorithms", "calculus", "statistics",
+            "programming", "physics", "chemistry", "economics", "history", "biology", "literature");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogCache catalogCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Sizes of the data to seed.
+     *
+     * @param usernamePrefix        prefix of the usernames, followed by the
+     *                              index of the user
+     * @param users                 number of users
+     * @param faculties             number of faculties
+     * @param lecturers             number of lecturers, two per course
+     * @param courses               number of courses, spread over the faculties
+     * @param contents              number of content items, spread over the
+     *                              courses and users
+     * @param maxReviewsPerContent  most reviews a content item gets; item i
+     *                              gets {@code i % (maxReviewsPerContent + 1)}
+     * @param batchSize             rows per INSERT statement
+     */
+    public record Plan(
+            String usernamePrefix,
+            int users,
+            int faculties,
+            int lecturers,
+            int courses,
+            long contents,
+            int maxReviewsPerContent,
+            int batchSize) {
+    }
+
+    /**
+     * The IDs of the seeded rows, which are consecutive per table.
+     *
+     * @param plan            the plan that was seeded
+     * @param firstUserId     the ID of user 0
+     * @param firstFacultyId  the ID of faculty 0
+     * @param firstLecturerId the ID of lecturer 0
+     * @param firstCourseId   the ID of course 0
+     * @param firstContentId  the ID of content item 0
+     * @param reviews         the number of seeded reviews
+     */
+    public record Seeded(
+            Plan plan,
+            long firstUserId,
+            long firstFacultyId,
+            long firstLecturerId,
+            long firstCourseId,
+            long firstContentId,
+            long reviews) {
+
+        /**
+         * @param index the index of the user
+         * @return the username of the user
+         */
+        public String username(long index) {
+            return plan.usernamePrefix() + index;
+        }
+    }
+
+    /**
+     * Constructor for BulkDataSeeder.
+     *
+     * @param jdbcTemplate         the template the rows are inserted with
+     * @param entityManagerFactory the factory whose second-level cache is
+     *                             evicted after seeding
+     * @param catalogCache         the catalog cache invalidated after seeding
+     * @param transactionManager   the transaction manager the catalog rows
+     *                             are inserted with
+     */
+    public BulkDataSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+            CatalogCache catalogCache, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogCache = catalogCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Seeds the data of a plan next to the existing rows.
+     *
+     * @param plan         the sizes of the data to seed
+     * @param passwordHash the encoded password all seeded users log in with
+     * @param filePaths    the S3 keys the content items point to
+     * @return the IDs of the seeded rows
+     * @throws IllegalArgumentException if the plan cannot be seeded
+     */
+    public Seeded seed(Plan plan, String passwordHash, List<String> filePaths) {
+        if (plan.users() <= plan.maxReviewsPerContent() + 1 || plan.faculties() < 1 || plan.lecturers() < 1
+                || plan.courses() < 1 || plan.batchSize() < 1 || filePaths.isEmpty()) {
+            throw new IllegalArgumentException("Cannot seed " + plan + " with " + filePaths.size() + " files");
+        }
+        Seeded seeded = new Seeded(plan, nextId("users"), nextId("faculty"), nextId("lecturer"), nextId("course"),
+                nextId("content"), 0);
+
+        BatchInsert users = new BatchInsert("users",
+                "id, first_name, last_name, email, username, password_hash, role", plan.batchSize());
+        for (int i = 0; i < plan.users(); i++) {
+            users.add(seeded.firstUserId() + i, "Load", "User" + i, seeded.username(i) + "@load.example.com",
+                    seeded.username(i), passwordHash, Role.STUDENT.name());
+        }
+        users.flush();
+
+        transactionTemplate.executeWithoutResult(status -> seedCatalog(seeded));
+
+        long reviews = seedContents(seeded, filePaths);
+        entityManagerFactory.getCache().evictAll();
+        catalogCache.invalidate();
+        return new Seeded(plan, seeded.firstUserId(), seeded.firstFacultyId(), seeded.firstLecturerId(),
+                seeded.firstCourseId(), seeded.firstContentId(), reviews);
+    }
+
+    private void seedCatalog(Seeded seeded) {
+        Plan plan = seeded.plan();
+        BatchInsert faculties = new BatchInsert("faculty", "id, name", plan.batchSize());
+        for (int i = 0; i < plan.faculties(); i++) {
+            faculties.add(seeded.firstFacultyId() + i, "Faculty " + i);
+        }
+        faculties.flush();
+
+        BatchInsert lecturers = new BatchInsert("lecturer", "id, name, email", plan.batchSize());
+        for (int i = 0; i < plan.lecturers(); i++) {
+            lecturers.add(seeded.firstLecturerId() + i, "Lecturer " + i, "lecturer" + i + "@load.example.com");
+        }
+        lecturers.flush();
+
+        BatchInsert courses = new BatchInsert("course", "id, name, faculty_id", plan.batchSize());
+        BatchInsert courseLecturers = new BatchInsert("course_lecturer", "course_id, lecturer_id", plan.batchSize());
+        for (int i = 0; i < plan.courses(); i++) {
+            courses.add(seeded.firstCourseId() + i, "Course " + i, seeded.firstFacultyId() + i % plan.faculties());
+        }
+        courses.flush();
+        for (int i = 0; i < plan.courses(); i++) {
+            courseLecturers.add(seeded.firstCourseId() + i, seeded.firstLecturerId() + i % plan.lecturers());
+            if (plan.lecturers() > 1) {
+                courseLecturers.add(seeded.firstCourseId() + i,
+                        seeded.firstLecturerId() + (i + 1) % plan.lecturers());
+            }
+        }
+        courseLecturers.flush();
+
+        jdbcTemplate.update("INSERT INTO catalog_version (id, version) VALUES (?, 1) "
+                + "ON DUPLICATE KEY UPDATE version = version + 1", CatalogVersion.ID);
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM catalog_version WHERE id = ?", Long.class,
+                CatalogVersion.ID);
+        LocalDateTime now = LocalDateTime.now();
+        BatchInsert changes = new BatchInsert("catalog_changes", "entity_type, entity_id, version, changed_at",
+                plan.batchSize());
+        for (int i = 0; i < plan.faculties(); i++) {
+            changes.add(CatalogEntityType.FACULTY.name(), seeded.firstFacultyId() + i, version, now);
+        }
+        for (int i = 0; i < plan.lecturers(); i++) {
+            changes.add(CatalogEntityType.LECTURER.name(), seeded.firstLecturerId() + i, version, now);
+        }
+        for (int i = 0; i < plan.courses(); i++) {
+            changes.add(CatalogEntityType.COURSE.name(), seeded.firstCourseId() + i, version, now);
+        }
+        changes.flush();
+    }
+
+    private long seedContents(Seeded seeded, List<String> filePaths) {
+        Plan plan = seeded.plan();
+        // Flushed together below, since the reviews must not be inserted before their content.
+        BatchInsert contents = new BatchInsert("content", "id, title, file_path, content_category, upload_date, "
+                + "user_id, faculty_id, course_id, lecturer_id, reported_count, outdated_count, average_rating, "
+                + "rating_sum, rating_count, one_star_count, two_star_count, three_star_count, four_star_count, "
+                + "five_star_count", Integer.MAX_VALUE);
+        BatchInsert reviews = new BatchInsert("review",
+                "id, stars, subject, comment, user_id, content_id, created_at, updated_at", Integer.MAX_VALUE);
+        ContentCategory[] categories = ContentCategory.values();
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        long reviewId = nextId("review");
+        long reviewCount = 0;
+
+        for (long i = 0; i < plan.contents(); i++) {
+            long contentId = seeded.firstContentId() + i;
+            int course = (int) (i % plan.courses());
+            int[] starCounts = new int[5];
+            int reviewsOfContent = (int) (i % (plan.maxReviewsPerContent() + 1));
+            for (int r = 0; r < reviewsOfContent; r++) {
+                int stars = 1 + (int) ((i + 3L * r) % 5);
+                starCounts[stars - 1]++;
+                // Reviewers follow the uploader, so they are distinct and never the uploader.
+                long reviewer = seeded.firstUserId() + (i + 1 + r) % plan.users();
+                LocalDateTime createdAt = now.minusMinutes(i % 10_000 + r);
+                reviews.add(reviewId++, stars, "Review " + (r + 1), "Seeded review.", reviewer, contentId,
+                        createdAt, createdAt);
+            }
+            reviewCount += reviewsOfContent;
+            int ratingSum = starCounts[0] + 2 * starCounts[1] + 3 * starCounts[2] + 4 * starCounts[3]
+                    + 5 * starCounts[4];
+            // Rounded half up on the exact quotient, like the repository's SQL.
+            double averageRating = reviewsOfContent == 0
+                    ? 0.0
+                    : BigDecimal.valueOf(ratingSum)
+                            .divide(BigDecimal.valueOf(reviewsOfContent), 1, RoundingMode.HALF_UP)
+                            .doubleValue();
+
+            contents.add(contentId,
+                    "Lecture notes " + TITLE_WORDS.get((int) (i % TITLE_WORDS.size())) + " "
+                            + TITLE_WORDS.get((int) (i / TITLE_WORDS.size() % TITLE_WORDS.size())) + " " + (i + 1),
+                    filePaths.get((int) (i % filePaths.size())),
+                    categories[(int) (i % categories.length)].name(),
+                    today.minusDays(i % 1000),
+                    seeded.firstUserId() + i % plan.users(),
+                    seeded.firstFacultyId() + course % plan.faculties(),
+                    seeded.firstCourseId() + course,
+                    seeded.firstLecturerId() + course % plan.lecturers(),
+                    0, 0, averageRating, ratingSum, reviewsOfContent,
+                    starCounts[0], starCounts[1], starCounts[2], starCounts[3], starCounts[4]);
+            if (contents.size() >= plan.batchSize() || reviews.size() >= plan.batchSize()) {
+                contents.flush();
+                reviews.flush();
+            }
+        }
+        contents.flush();
+        reviews.flush();
+        return reviewCount;
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    /**
+     * Collects rows of one table and inserts them with a single multi-row
+     * INSERT statement per flush, which happens whenever the batch is full.
+     */
+    private final class BatchInsert {
+
+        private final String statementPrefix;
+        private final String rowPlaceholders;
+        private final int batchSize;
+        private final List<Object> values = new ArrayList<>();
+        private int rows;
+
+        BatchInsert(String table, String columns, int batchSize) {
+            this.statementPrefix = "INSERT INTO " + table + " (" + columns + ") VALUES ";
+            this.rowPlaceholders = "(" + String.join(", ",
+                    Collections.nCopies(columns.split(",").length, "?")) + ")";
+            this.batchSize = batchSize;
+        }
+
+        void add(Object... row) {
+            Collections.addAll(values, row);
+            rows++;
+            if (rows >= batchSize) {
+                flush();
+            }
+        }
+
+        int size() {
+            return rows;
+        }
+
+        void flush() {
+            if (rows == 0) {
+                return;
+            }
+            jdbcTemplate.update(statementPrefix + String.join(", ", Collections.nCopies(rows, rowPlaceholders)),
+                    values.toArray());
+            values.clear();
+            rows = 0;
+        }
+    }
+}
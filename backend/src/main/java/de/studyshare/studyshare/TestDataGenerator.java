@@ -11,15 +11,20 @@ import de.studyshare.studyshare.dto.entity.LecturerDTO;
 import de.studyshare.studyshare.dto.request.*;
 import de.studyshare.studyshare.dto.response.LoginResponse;
 import de.studyshare.studyshare.repository.UserRepository;
+import de.studyshare.studyshare.service.CatalogCache;
+import jakarta.persistence.EntityManagerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
@@ -39,25 +44,57 @@ public class TestDataGenerator {
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BulkDataSeeder bulkDataSeeder;
 
+    @Value("${testdata.base-url:http://localhost:8080}")
     private String baseUrl;
 
+    /**
+     * Number of content items seeded in bulk on top of the API-created data,
+     * or 0 to skip bulk seeding.
+     */
+    @Value("${testdata.bulk.contents:0}")
+    private long bulkContents;
+
+    @Value("${testdata.bulk.users:1000}")
+    private int bulkUsers;
+
+    @Value("${testdata.bulk.faculties:20}")
+    private int bulkFaculties;
+
+    @Value("${testdata.bulk.lecturers:200}")
+    private int bulkLecturers;
+
+    @Value("${testdata.bulk.courses:1000}")
+    private int bulkCourses;
+
+    @Value("${testdata.bulk.max-reviews-per-content:4}")
+    private int bulkMaxReviewsPerContent;
+
+    @Value("${testdata.bulk.batch-size:1000}")
+    private int bulkBatchSize;
+
     private final Random random = new Random();
 
     public TestDataGenerator(
             ObjectMapper objectMapper, // Auto-configured by Spring Boot Web
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory,
+            CatalogCache catalogCache,
+            PlatformTransactionManager transactionManager) {
         this.objectMapper = objectMapper;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.bulkDataSeeder = new BulkDataSeeder(jdbcTemplate, entityManagerFactory, catalogCache,
+                transactionManager);
         this.restTemplate = new RestTemplate(); // Instantiate directly
     }
 
     @Bean
     public CommandLineRunner generateDataViaApi() {
         return args -> {
-            this.baseUrl = "http://localhost:8080";
             logger.info("Starting Test Data Generation via API calls to {}", baseUrl);
 
             // 1. Create and login Admin User (directly in DB for bootstrapping)
@@ -271,6 +308,22 @@ public class TestDataGenerator {
                 }
             }
 
+            // 9. Seed bulk data next to the API-created data, reusing the uploaded files
+            if (bulkContents > 0) {
+                List<String> filePaths = createdContents.stream().map(ContentDTO::filePath).toList();
+                if (filePaths.isEmpty()) {
+                    logger.warn("No uploaded files to reference. Skipping bulk seeding.");
+                } else {
+                    String usernamePrefix = "bulk" + System.currentTimeMillis() + "_";
+                    BulkDataSeeder.Seeded seeded = bulkDataSeeder.seed(new BulkDataSeeder.Plan(usernamePrefix,
+                            bulkUsers, bulkFaculties, bulkLecturers, bulkCourses, bulkContents,
+                            bulkMaxReviewsPerContent, bulkBatchSize), passwordEncoder.encode("BulkPassword1!"),
+                            filePaths);
+                    logger.info("Seeded {} content items and {} reviews in bulk. Users {}0 to {}{} log in with 'BulkPassword1!'.",
+                            bulkContents, seeded.reviews(), usernamePrefix, usernamePrefix, bulkUsers - 1);
+                }
+            }
+
             logger.info("Test Data Generation via API calls finished.");
         };
     }
@@ -3,14 +3,19 @@ package de.studyshare.studyshare.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
 
 
 @Configuration
@@ -28,16 +33,87 @@ public class AwsConfig {
     @Value("${s3.region}")
     private String region;
 
+    @Value("${s3.upload.pool-size:4}")
+    private int uploadPoolSize;
+
+    @Value("${s3.upload.queue-capacity:16}")
+    private int uploadQueueCapacity;
+
+    @Value("${s3.http.client:apache}")
+    private String httpClient;
+
+    @Value("${s3.http.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${s3.http.connection-ttl:60s}")
+    private Duration connectionTtl;
+
+    @Value("${s3.http.connection-timeout:2s}")
+    private Duration connectionTimeout;
+
+    @Value("${s3.http.socket-timeout:30s}")
+    private Duration socketTimeout;
+
+    @Value("${s3.http.connection-acquisition-timeout:10s}")
+    private Duration connectionAcquisitionTimeout;
+
+    /**
+     * Synchronous S3 client, used where the caller needs a blocking stream,
+     * e.g. to pipe a download into the servlet response.
+     * Runs on a pooled Apache HTTP client by default; set s3.http.client to
+     * url-connection for the unpooled JDK client.
+     *
+     * @return the synchronous S3 client
+     */
     @Bean
     public S3Client s3Client() {
-        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, accessSecret);
-
         return S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .credentialsProvider(credentialsProvider())
                 .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
-                .httpClient(UrlConnectionHttpClient.create())
+                .httpClientBuilder(syncHttpClientBuilder())
                 .build();
     }
-}
\ No newline at end of file
+
+    private StaticCredentialsProvider credentialsProvider() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, accessSecret));
+    }
+
+    private SdkHttpClient.Builder<?> syncHttpClientBuilder() {
+        return switch (httpClient) {
+            case "apache" -> ApacheHttpClient.builder()
+                    .maxConnections(maxConnections)
+                    .connectionTimeToLive(connectionTtl)
+                    .connectionTimeout(connectionTimeout)
+                    .socketTimeout(socketTimeout)
+                    .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                    .tcpKeepAlive(true);
+            case "url-connection" -> UrlConnectionHttpClient.builder()
+                    .connectionTimeout(connectionTimeout)
+                    .socketTimeout(socketTimeout);
+            default -> throw new IllegalStateException(
+                    "Unknown s3.http.client '" + httpClient + "', expected apache or url-connection");
+        };
+    }
+
+    /**
+     * Executor that streams uploaded files to S3, outside of any database
+     * transaction. When all threads are busy and the queue is full, the
+     * request thread performs the upload itself.
+     *
+     * @return the executor for S3 uploads
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadPoolSize);
+        executor.setMaxPoolSize(uploadPoolSize);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
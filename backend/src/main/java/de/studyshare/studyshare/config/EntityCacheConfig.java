@@ -0,0 +1,94 @@
+package de.studyshare.studyshare.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Lecturer;
+import de.studyshare.studyshare.domain.User;
+
+/**
+ * Hibernate second-level cache for the reference entities, which are loaded
+ * on nearly every request (e.g. the user of each review, the course of each
+ * content) but rarely change.
+ * The regions live in an on-heap Caffeine JCache manager owned by this
+ * application context, bounded by {@code entity-cache.max-size} entries each
+ * and expired {@code entity-cache.ttl} after they were written, which bounds
+ * how long changes made through other nodes stay invisible.
+ * Hit and miss counts of every region are exported by the Hibernate metrics
+ * as {@code hibernate.second.level.cache.requests}.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    /**
+     * Regions of the cached entities and collections, named after the entity
+     * class or the collection role as Hibernate does by default.
+     */
+    static final List<String> REGIONS = List.of(
+            Faculty.class.getName(),
+            Course.class.getName(),
+            Course.class.getName() + ".lecturers",
+            Lecturer.class.getName(),
+            User.class.getName());
+
+    @Value("${entity-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${entity-cache.ttl:5m}")
+    private Duration ttl;
+
+    /**
+     * Cache manager holding the second-level cache regions. Each application
+     * context gets its own manager, so contexts started side by side (e.g. in
+     * tests) never see each other's entries.
+     *
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("studyshare:entity-cache:" + UUID.randomUUID()),
+                        EntityCacheConfig.class.getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager to Hibernate instead of letting it look up the
+     * default one, and refuses to start if a cached entity has no configured,
+     * bounded region.
+     *
+     * @param entityCacheManager the cache manager holding the regions
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
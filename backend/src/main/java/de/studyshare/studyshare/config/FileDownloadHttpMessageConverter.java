@@ -0,0 +1,61 @@
+package de.studyshare.studyshare.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import de.studyshare.studyshare.dto.response.FileDownload;
+
+/**
+ * Message converter that streams {@link FileDownload} bodies to the client.
+ * The stored object is copied straight from the storage connection to the
+ * servlet output stream, so controllers can keep returning a ResponseEntity
+ * without the file being loaded into memory first.
+ */
+@Component
+public class FileDownloadHttpMessageConverter extends AbstractHttpMessageConverter<FileDownload> {
+
+    /**
+     * Creates a converter that accepts every media type, since the content type
+     * of a download is taken from the stored object.
+     */
+    public FileDownloadHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return FileDownload.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected FileDownload readInternal(@NonNull Class<? extends FileDownload> clazz,
+            @NonNull HttpInputMessage inputMessage) throws IOException {
+        throw new HttpMessageNotReadableException("File downloads cannot be read from a request.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NonNull FileDownload download, MediaType contentType) {
+        return download.contentLength() >= 0 ? download.contentLength() : null;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull FileDownload download, @NonNull HttpOutputMessage outputMessage)
+            throws IOException {
+        try (download) {
+            download.writeTo(outputMessage.getBody());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package de.studyshare.studyshare.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the MariaDB full-text search function with Hibernate, so that
+ * JPQL and Criteria queries can use the FULLTEXT index on content titles.
+ * {@code match_against(column, query)} renders as
+ * {@code MATCH(column) AGAINST(query IN BOOLEAN MODE)} and returns the
+ * relevance score, which is 0 for rows that do not match.
+ * Loaded by Hibernate through
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    /**
+     * Name of the registered function.
+     */
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(MATCH_AGAINST, "match(?1) against(?2 in boolean mode)")
+                .setInvariantType(functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE))
+                .setExactArgumentCount(2)
+                .register();
+    }
+}
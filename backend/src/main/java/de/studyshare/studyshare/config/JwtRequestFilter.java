@@ -11,8 +11,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import de.studyshare.studyshare.service.JpaUserDetailsService;
+import de.studyshare.studyshare.service.JwtClaims;
 import de.studyshare.studyshare.service.JwtUtil;
 import de.studyshare.studyshare.service.TokenBlocklistService;
+import de.studyshare.studyshare.service.UserInvalidationRegistry;
+import de.studyshare.studyshare.service.UserPrincipal;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -26,6 +29,8 @@ import jakarta.servlet.http.HttpServletResponse;
  * Filter for processing JWT authentication in incoming HTTP requests.
  * This filter extracts the JWT from the Authorization header, validates it,
  * and sets the authentication in the security context if valid.
+ * The principal is built from the roles and user ID in the token, so
+ * authenticated requests do not load the user from the database.
  */
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -33,6 +38,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private final JpaUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
     private final TokenBlocklistService tokenBlocklistService;
+    private final UserInvalidationRegistry userInvalidationRegistry;
 
     /**
      * Constructor for JwtRequestFilter.
@@ -42,12 +48,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
      * @param userDetailsService    The service to load user details.
      * @param jwtUtil               The utility for handling JWT operations.
      * @param tokenBlocklistService The service for managing blocklisted tokens.
+     * @param userInvalidationRegistry The registry of users whose tokens were
+     *                                 revoked.
      */
     public JwtRequestFilter(JpaUserDetailsService userDetailsService, JwtUtil jwtUtil,
-            TokenBlocklistService tokenBlocklistService) {
+            TokenBlocklistService tokenBlocklistService, UserInvalidationRegistry userInvalidationRegistry) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
         this.tokenBlocklistService = tokenBlocklistService;
+        this.userInvalidationRegistry = userInvalidationRegistry;
     }
 
     /**
@@ -67,15 +76,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         final String authorizationHeader = request.getHeader("Authorization");
-        String username = null;
-        String jwt = null;
-        String jti = null; // JWT ID
+        JwtClaims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
-                jti = jwtUtil.extractJti(jwt); // Extract JTI
+                // Verifies the token once; all checks below use the verified claims.
+                claims = jwtUtil.parse(jwt);
             } catch (IllegalArgumentException e) {
                 logger.warn("Unable to get JWT Token", e);
             } catch (ExpiredJwtException e) {
@@ -94,23 +101,28 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             logger.warn("JWT Token does not begin with Bearer String");
         }
 
-        if (username != null && jwt != null && jti != null
+        if (claims != null && claims.subject() != null && claims.jti() != null
                 && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
             // Check if the token's JTI is blocklisted
-            if (tokenBlocklistService.isBlocklisted(jwt)) { // Pass the full token to service, it will extract JTI
-                logger.warn("JWT Token's JTI is blocklisted: " + jti);
+            if (tokenBlocklistService.isJtiBlocklisted(claims.jti())) {
+                logger.warn("JWT Token's JTI is blocklisted: " + claims.jti());
                 // Setting an attribute to indicate the reason for unauthorized access
                 request.setAttribute("blocklisted", "Token is blocklisted");
-            } else if (jwtUtil.validateToken(jwt, userDetails)) {
+            } else if (userInvalidationRegistry.isInvalidated(claims.subject(), claims.issuedAt())) {
+                logger.warn("JWT Token was issued before user was invalidated: " + claims.subject());
+                request.setAttribute("invalidated", "Token was issued before the user was changed");
+            } else if (!claims.isExpired()) {
+                // Tokens carrying the roles need no database lookup; older tokens load the user.
+                UserDetails userDetails = claims.hasAuthorities()
+                        ? UserPrincipal.fromClaims(claims)
+                        : this.userDetailsService.loadUserByUsername(claims.subject());
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
                         .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
             } else {
-                logger.warn("JWT Token is not valid for user: " + username);
+                logger.warn("JWT Token is not valid for user: " + claims.subject());
             }
         }
         filterChain.doFilter(request, response);
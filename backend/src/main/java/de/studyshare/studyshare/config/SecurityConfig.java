@@ -66,6 +66,7 @@ public class SecurityConfig {
                         .authenticationEntryPoint((request, response, authException) -> {
                             String expired = (String) request.getAttribute("expired");
                             String blocklisted = (String) request.getAttribute("blocklisted");
+                            String invalidated = (String) request.getAttribute("invalidated");
 
                             if (expired != null) {
                                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
@@ -73,6 +74,9 @@ public class SecurityConfig {
                             } else if (blocklisted != null) {
                                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
                                         "JWT Token is blocklisted.");
+                            } else if (invalidated != null) {
+                                response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
+                                        "JWT Token has been revoked.");
                             } else {
                                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
                                         "Unauthorized: " + authException.getMessage());
@@ -8,6 +8,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -81,7 +82,7 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password()));
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            final String token = jwtUtil.generateToken(authentication.getName());
+            final String token = generateToken(authentication);
             logger.info("User {} logged in successfully.", loginRequest.username());
             return ResponseEntity.ok(new LoginResponse(token, authentication.getName()));
 
@@ -142,7 +143,7 @@ public class AuthController {
                 new UsernamePasswordAuthenticationToken(userCreateRequest.username(), userCreateRequest.password()));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        final String token = jwtUtil.generateToken(authentication.getName());
+        final String token = generateToken(authentication);
         logger.info("User {} automatically logged in after registration.", registeredUser.username());
 
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -200,4 +201,19 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(errorDetails);
     }
-}
\ No newline at end of file
+
+    /**
+     * Generates the JWT for a successful authentication.
+     * The token carries the user's ID and roles, so later requests do not need
+     * to load the user.
+     *
+     * @param authentication The successful authentication.
+     * @return A JWT token string.
+     */
+    private String generateToken(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return jwtUtil.generateToken(userDetails);
+        }
+        return jwtUtil.generateToken(authentication.getName());
+    }
+}
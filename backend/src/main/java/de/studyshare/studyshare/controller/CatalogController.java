@@ -0,0 +1,93 @@
+package de.studyshare.studyshare.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import de.studyshare.studyshare.dto.response.CatalogResponse;
+import de.studyshare.studyshare.service.CatalogService;
+
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CatalogResponse> getCatalog(@RequestParam(required = false) Long since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long seenVersion = newestVersion(ifNoneMatch);
+        String currentETag = eTag(catalogService.getCurrentVersion(seenVersion));
+        if (matches(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(currentETag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+        CatalogResponse catalog = catalogService.getCatalog(since, seenVersion);
+        return ResponseEntity.ok()
+                .eTag(eTag(catalog.version()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(catalog);
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Finds the newest catalog version among the ETags the client presents,
+     * which it may have received from another node.
+     */
+    private static long newestVersion(String ifNoneMatch) {
+        long newest = -1;
+        if (ifNoneMatch == null) {
+            return newest;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                try {
+                    newest = Math.max(newest, Long.parseLong(tag.substring(1, tag.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags.
+                }
+            }
+        }
+        return newest;
+    }
+
+    /**
+     * If-None-Match uses the weak comparison, so a W/ prefix is ignored.
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
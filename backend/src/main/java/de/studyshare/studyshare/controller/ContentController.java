@@ -2,13 +2,18 @@ package de.studyshare.studyshare.controller;
 
 import java.io.IOException;
 import java.net.URI;
-import org.springframework.http.HttpHeaders;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,18 +23,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import de.studyshare.studyshare.domain.ContentCategory;
 import de.studyshare.studyshare.domain.ContentSortByOptions;
 import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
 import de.studyshare.studyshare.dto.request.ContentCreateRequest;
 import de.studyshare.studyshare.dto.request.ContentUpdateRequest;
+import de.studyshare.studyshare.dto.response.ContentScrollResponse;
+import de.studyshare.studyshare.dto.response.FileDownload;
 import de.studyshare.studyshare.service.ContentService;
 import jakarta.validation.Valid;
 
@@ -37,6 +48,8 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/contents")
 public class ContentController {
 
+    private static final Logger logger = LoggerFactory.getLogger(ContentController.class);
+
     private final ContentService contentService;
 
     public ContentController(ContentService contentService) {
@@ -90,14 +103,15 @@ public class ContentController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ContentDTO> reportContent(@PathVariable Long id) {
         ContentDTO updatedContent = contentService.incrementReportCount(id);
-        return ResponseEntity.ok(updatedContent);
+        // Buffered reports are only written later, so there is no updated content yet.
+        return updatedContent != null ? ResponseEntity.ok(updatedContent) : ResponseEntity.accepted().build();
     }
 
     @PostMapping("/{id}/mark-outdated")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ContentDTO> markContentAsOutdated(@PathVariable Long id) {
         ContentDTO updatedContent = contentService.incrementOutdatedCount(id);
-        return ResponseEntity.ok(updatedContent);
+        return updatedContent != null ? ResponseEntity.ok(updatedContent) : ResponseEntity.accepted().build();
     }
 
     @GetMapping("/browse")
@@ -119,23 +133,102 @@ public class ContentController {
         return ResponseEntity.ok(contentsPage);
     }
 
-    @GetMapping("/download/{filename:.+}") 
-    public ResponseEntity<Resource> downloadFile(@PathVariable String filename) {
-        Resource file = contentService.loadFileAsResource(filename);
+    @GetMapping("/browse/summary")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<ContentSummaryDTO>> browseContentSummaries(
+            @RequestParam(required = false) Long facultyId,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long lecturerId,
+            @RequestParam(required = false) ContentCategory category,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false, defaultValue = "uploadDate") ContentSortByOptions sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
 
-        String contentType = null;
-        try {
-            contentType = Files.probeContentType(file.getFile().toPath());
-        } catch (IOException ex) {
-        }
+        Page<ContentSummaryDTO> summariesPage = contentService.getFilteredAndSortedContentSummaries(
+                facultyId, courseId, lecturerId, category, searchTerm, sortBy, sortDirection,
+                PageRequest.of(page, size));
+        return ResponseEntity.ok(summariesPage);
+    }
 
-        if (contentType == null) {
-            contentType = "application/octet-stream";
+    @GetMapping("/browse/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContentScrollResponse> scrollContents(
+            @RequestParam(required = false) Long facultyId,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long lecturerId,
+            @RequestParam(required = false) ContentCategory category,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false, defaultValue = "uploadDate") ContentSortByOptions sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+
+        ContentScrollResponse scrollResponse = contentService.scrollContentSummaries(
+                facultyId, courseId, lecturerId, category, searchTerm, sortBy, sortDirection, cursor, size);
+        return ResponseEntity.ok(scrollResponse);
+    }
+
+    @GetMapping("/download/{filename:.+}") 
+    public ResponseEntity<FileDownload> downloadFile(@PathVariable String filename,
+            @RequestHeader HttpHeaders requestHeaders) {
+        FileDownload file = contentService.openFileDownload(
+                filename,
+                requestHeaders.getFirst(HttpHeaders.RANGE),
+                requestHeaders.getFirst(HttpHeaders.IF_RANGE),
+                requestHeaders.getFirst(HttpHeaders.IF_MATCH),
+                requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH),
+                requestHeaders.getIfUnmodifiedSince(),
+                requestHeaders.getIfModifiedSince());
+        // The converter closes the stream once the body is written, but Spring
+        // may still answer without writing it, e.g. when a precondition fails.
+        closeWhenRequestCompletes(file);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity
+                .status(file.isNotModified() ? HttpStatus.NOT_MODIFIED
+                        : file.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (file.eTag() != null) {
+            response.eTag(file.eTag());
+        }
+        if (file.lastModified() != null) {
+            response.lastModified(file.lastModified());
+        }
+        if (file.isNotModified()) {
+            return response.build();
+        }
+        if (file.isPartial()) {
+            response.header(HttpHeaders.CONTENT_RANGE, file.contentRange());
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFilename() + "\"")
+        return response
+                .contentType(parseContentType(file.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.filename(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
                 .body(file);
     }
+
+    private static void closeWhenRequestCompletes(FileDownload file) {
+        RequestContextHolder.currentRequestAttributes().registerDestructionCallback(
+                FileDownload.class.getName(), () -> {
+                    try {
+                        file.close();
+                    } catch (IOException e) {
+                        logger.warn("Failed to close download of '{}': {}", file.filename(), e.getMessage());
+                    }
+                }, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private static MediaType parseContentType(String contentType) {
+        // The content type was supplied by the uploader and may be malformed.
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
 }
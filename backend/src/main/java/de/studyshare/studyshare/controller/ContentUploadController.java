@@ -0,0 +1,85 @@
+package de.studyshare.studyshare.controller;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.UploadSessionDTO;
+import de.studyshare.studyshare.dto.request.UploadSessionCreateRequest;
+import de.studyshare.studyshare.service.ContentUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/contents/uploads")
+public class ContentUploadController {
+
+    private final ContentUploadService contentUploadService;
+
+    public ContentUploadController(ContentUploadService contentUploadService) {
+        this.contentUploadService = contentUploadService;
+    }
+
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<UploadSessionDTO> createUploadSession(
+            @Valid @RequestBody UploadSessionCreateRequest createRequest) {
+
+        UploadSessionDTO session = contentUploadService.createUploadSession(createRequest);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(session.id())
+                .toUri();
+        return ResponseEntity.created(location).body(session);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<UploadSessionDTO> getUploadSession(@PathVariable Long id) {
+        return ResponseEntity.ok(contentUploadService.getUploadSession(id));
+    }
+
+    @PutMapping(value = "/{id}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> uploadPart(@PathVariable Long id,
+            @PathVariable int partNumber,
+            @RequestHeader(HttpHeaders.CONTENT_LENGTH) long contentLength,
+            HttpServletRequest request) throws IOException {
+
+        contentUploadService.uploadPart(id, partNumber, contentLength, request.getInputStream());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/complete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContentDTO> completeUpload(@PathVariable Long id) {
+        ContentDTO createdContent = contentUploadService.completeUpload(id);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/contents/{id}")
+                .buildAndExpand(createdContent.id())
+                .toUri();
+        return ResponseEntity.created(location).body(createdContent);
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> abortUpload(@PathVariable Long id) {
+        contentUploadService.abortUpload(id);
+        return ResponseEntity.noContent().build();
+    }
+}
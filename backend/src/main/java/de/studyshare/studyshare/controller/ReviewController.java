@@ -12,12 +12,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import de.studyshare.studyshare.dto.entity.RatingSummaryDTO;
 import de.studyshare.studyshare.dto.entity.ReviewDTO;
 import de.studyshare.studyshare.dto.request.ReviewCreateRequest;
 import de.studyshare.studyshare.dto.request.ReviewUpdateRequest;
+import de.studyshare.studyshare.dto.response.ReviewScrollResponse;
 import de.studyshare.studyshare.service.ReviewService;
 import jakarta.validation.Valid;
 
@@ -38,6 +41,22 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ReviewScrollResponse> scrollReviewsForContent(@PathVariable Long contentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        ReviewScrollResponse scrollResponse = reviewService.scrollReviewsForContent(contentId, cursor, size);
+        return ResponseEntity.ok(scrollResponse);
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RatingSummaryDTO> getRatingSummary(@PathVariable Long contentId) {
+        RatingSummaryDTO summary = reviewService.getRatingSummary(contentId);
+        return ResponseEntity.ok(summary);
+    }
+
     @GetMapping("/{reviewId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ReviewDTO> getReviewById(@PathVariable Long contentId, @PathVariable Long reviewId) {
@@ -1,5 +1,8 @@
 package de.studyshare.studyshare.domain;
 
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -21,7 +24,8 @@ import java.util.Objects;
 @Entity
 @Table(name = "blocklisted_tokens", indexes = {
         @Index(name = "idx_blocklisted_token_jti", columnList = "jti", unique = true),
-        @Index(name = "idx_blocklisted_token_expiry", columnList = "expiryDate")
+        @Index(name = "idx_blocklisted_token_expiry", columnList = "expiryDate"),
+        @Index(name = "idx_blocklisted_token_created_at", columnList = "createdAt")
 })
 public class BlocklistedToken {
 
@@ -45,6 +49,14 @@ public class BlocklistedToken {
     @Column(nullable = false)
     private Instant expiryDate;
 
+    /**
+     * The time the token was blocklisted, taken from the database clock so
+     * that all nodes polling for new entries agree on it.
+     */
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
     /**
      * Default constructor required by JPA.
      */
@@ -117,6 +129,25 @@ public class BlocklistedToken {
         this.expiryDate = expiryDate;
     }
 
+    /**
+     * Gets the time the token was blocklisted.
+     *
+     * @return the time the token was blocklisted.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets the time the token was blocklisted.
+     * This is typically set by the database.
+     *
+     * @param createdAt the time to set
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
     /**
      * Checks if the blocklisted token is expired.
      * 
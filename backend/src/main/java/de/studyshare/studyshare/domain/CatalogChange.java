@@ -0,0 +1,165 @@
+package de.studyshare.studyshare.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Entity representing one change of a faculty, course or lecturer.
+ * Each change is tagged with the {@link CatalogVersion} its transaction
+ * produced: the catalog at version N includes every change tagged up to and
+ * including N, so clients holding version N only need the entities changed
+ * after it. Whether a changed entity was deleted follows from its absence in
+ * the current catalog.
+ */
+@Entity
+@Table(name = "catalog_changes", indexes = {
+        @Index(name = "idx_catalog_change_version", columnList = "version")
+})
+public class CatalogChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The catalog version this change produced.
+     */
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * The kind of entity that changed.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CatalogEntityType entityType;
+
+    /**
+     * The ID of the entity that changed.
+     */
+    @Column(nullable = false)
+    private Long entityId;
+
+    /**
+     * Timestamp when the change was recorded.
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant changedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CatalogChange() {
+    }
+
+    /**
+     * Constructs a new CatalogChange.
+     *
+     * @param entityType The kind of entity that changed
+     * @param entityId   The ID of the entity that changed
+     * @param version    The catalog version the change produced
+     */
+    public CatalogChange(CatalogEntityType entityType, Long entityId, Long version) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+    }
+
+    /**
+     * @return The unique identifier of the change
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @param id The unique identifier to set
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return The catalog version this change produced
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param version The catalog version to set
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * @return The kind of entity that changed
+     */
+    public CatalogEntityType getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * @param entityType The kind of entity to set
+     */
+    public void setEntityType(CatalogEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    /**
+     * @return The ID of the entity that changed
+     */
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * @param entityId The ID of the entity to set
+     */
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * @return The timestamp when the change was recorded
+     */
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    /**
+     * @param changedAt The timestamp to set
+     */
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CatalogChange that = (CatalogChange) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
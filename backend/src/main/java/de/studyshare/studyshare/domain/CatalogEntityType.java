@@ -0,0 +1,20 @@
+package de.studyshare.studyshare.domain;
+
+/**
+ * Enum representing the kinds of entities in the faculty, course and lecturer
+ * catalog, as recorded in the {@link CatalogChange} log.
+ */
+public enum CatalogEntityType {
+    /**
+     * A {@link Faculty}.
+     */
+    FACULTY,
+    /**
+     * A {@link Course}.
+     */
+    COURSE,
+    /**
+     * A {@link Lecturer}.
+     */
+    LECTURER
+}
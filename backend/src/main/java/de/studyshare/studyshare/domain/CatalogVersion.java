@@ -0,0 +1,85 @@
+package de.studyshare.studyshare.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity holding the current version of the faculty, course and lecturer
+ * catalog in a single row.
+ * Every transaction changing the catalog increments the version before it
+ * commits and tags its {@link CatalogChange} entries with the new value. The
+ * increment locks the row until the transaction ends, so catalog changes
+ * commit in version order and a client holding version N has seen every
+ * change tagged up to N.
+ */
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersion {
+
+    /**
+     * The ID of the only row.
+     */
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    /**
+     * The current catalog version.
+     */
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CatalogVersion() {
+    }
+
+    /**
+     * @return The ID of the row
+     */
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * @param id The ID of the row
+     */
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    /**
+     * @return The current catalog version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param version The catalog version to set
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CatalogVersion that = (CatalogVersion) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -3,6 +3,8 @@ package de.studyshare.studyshare.domain;
 import java.time.LocalDate;
 import java.util.Objects;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,8 +13,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.Table;
 
 /**
  * Entity class representing educational content uploaded by users.
@@ -20,10 +27,33 @@ import jakarta.persistence.ManyToOne;
  * Content items can be categorized, associated with courses, lecturers, and
  * faculties,
  * and tracked for reporting, ratings, and outdated status.
+ * The {@value #WITH_ASSOCIATIONS} entity graph fetches everything a ContentDTO
+ * needs in the same select.
+ * Updates only write the changed columns, so saving a loaded content item
+ * never writes back rating or counter values that concurrent delta updates
+ * have changed since it was loaded.
  */
 @Entity
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_content_upload_date_id", columnList = "upload_date, id"),
+        @Index(name = "idx_content_average_rating_id", columnList = "average_rating, id"),
+        @Index(name = "idx_content_title_id", columnList = "title, id")
+})
+@NamedEntityGraph(name = Content.WITH_ASSOCIATIONS, attributeNodes = {
+        @NamedAttributeNode("uploadedBy"),
+        @NamedAttributeNode("lecturer"),
+        @NamedAttributeNode(value = "course", subgraph = "course"),
+        @NamedAttributeNode("faculty")
+}, subgraphs = @NamedSubgraph(name = "course", attributeNodes = @NamedAttributeNode("faculty")))
 public class Content {
 
+    /**
+     * Name of the entity graph that fetches the uploader, lecturer, course with
+     * its faculty, and faculty of a content item.
+     */
+    public static final String WITH_ASSOCIATIONS = "Content.withAssociations";
+
     /**
      * Unique identifier for the content item.
      */
@@ -92,11 +122,55 @@ public class Content {
     private String title;
 
     /**
-     * Average rating of the content based on user reviews.
+     * Average rating of the content based on user reviews, rounded to one
+     * decimal. Derived from {@link #ratingSum} and {@link #ratingCount} and
+     * stored so that content can be sorted by it.
      */
     @Column(name = "average_rating")
     private Double averageRating = 0.0;
 
+    /**
+     * Sum of the stars of all reviews of this content.
+     */
+    @Column(nullable = false)
+    private long ratingSum = 0;
+
+    /**
+     * Number of reviews of this content.
+     */
+    @Column(nullable = false)
+    private int ratingCount = 0;
+
+    /**
+     * Number of reviews of this content giving 1 star.
+     */
+    @Column(nullable = false)
+    private int oneStarCount = 0;
+
+    /**
+     * Number of reviews of this content giving 2 stars.
+     */
+    @Column(nullable = false)
+    private int twoStarCount = 0;
+
+    /**
+     * Number of reviews of this content giving 3 stars.
+     */
+    @Column(nullable = false)
+    private int threeStarCount = 0;
+
+    /**
+     * Number of reviews of this content giving 4 stars.
+     */
+    @Column(nullable = false)
+    private int fourStarCount = 0;
+
+    /**
+     * Number of reviews of this content giving 5 stars.
+     */
+    @Column(nullable = false)
+    private int fiveStarCount = 0;
+
     /**
      * Default constructor required by JPA.
      */
@@ -300,6 +374,104 @@ public class Content {
         this.averageRating = averageRating;
     }
 
+    /**
+     * @return The sum of the stars of all reviews of this content
+     */
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    /**
+     * @param ratingSum The sum of the stars to set
+     */
+    public void setRatingSum(long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    /**
+     * @return The number of reviews of this content
+     */
+    public int getRatingCount() {
+        return ratingCount;
+    }
+
+    /**
+     * @param ratingCount The number of reviews to set
+     */
+    public void setRatingCount(int ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    /**
+     * @return The number of reviews giving 1 star
+     */
+    public int getOneStarCount() {
+        return oneStarCount;
+    }
+
+    /**
+     * @param oneStarCount The number of reviews giving 1 star to set
+     */
+    public void setOneStarCount(int oneStarCount) {
+        this.oneStarCount = oneStarCount;
+    }
+
+    /**
+     * @return The number of reviews giving 2 stars
+     */
+    public int getTwoStarCount() {
+        return twoStarCount;
+    }
+
+    /**
+     * @param twoStarCount The number of reviews giving 2 stars to set
+     */
+    public void setTwoStarCount(int twoStarCount) {
+        this.twoStarCount = twoStarCount;
+    }
+
+    /**
+     * @return The number of reviews giving 3 stars
+     */
+    public int getThreeStarCount() {
+        return threeStarCount;
+    }
+
+    /**
+     * @param threeStarCount The number of reviews giving 3 stars to set
+     */
+    public void setThreeStarCount(int threeStarCount) {
+        this.threeStarCount = threeStarCount;
+    }
+
+    /**
+     * @return The number of reviews giving 4 stars
+     */
+    public int getFourStarCount() {
+        return fourStarCount;
+    }
+
+    /**
+     * @param fourStarCount The number of reviews giving 4 stars to set
+     */
+    public void setFourStarCount(int fourStarCount) {
+        this.fourStarCount = fourStarCount;
+    }
+
+    /**
+     * @return The number of reviews giving 5 stars
+     */
+    public int getFiveStarCount() {
+        return fiveStarCount;
+    }
+
+    /**
+     * @param fiveStarCount The number of reviews giving 5 stars to set
+     */
+    public void setFiveStarCount(int fiveStarCount) {
+        this.fiveStarCount = fiveStarCount;
+    }
+
     /**
      * Compares this content object with another object for equality.
      * Two content objects are considered equal if they have the same ID.
@@ -0,0 +1,172 @@
+package de.studyshare.studyshare.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entity representing a report or outdated mark a user gave to a content item.
+ * The unique constraint lets every user give each signal only once per
+ * content item; the counters on {@link Content} count these rows.
+ * The user is referenced by ID only, so the signals and counters of content
+ * stay unchanged when a user account is deleted.
+ */
+@Entity
+@Table(name = "content_signals", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_content_signal", columnNames = { "content_id", "signalType", "userId" })
+})
+public class ContentSignal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The content the signal was given to. Signals are deleted together with
+     * their content.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Content content;
+
+    /**
+     * The kind of signal.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ContentSignalType signalType;
+
+    /**
+     * The ID of the user who gave the signal.
+     */
+    @Column(nullable = false)
+    private Long userId;
+
+    /**
+     * Timestamp when the signal was given.
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public ContentSignal() {
+    }
+
+    /**
+     * Constructs a new ContentSignal.
+     *
+     * @param content    The content the signal is given to
+     * @param signalType The kind of signal
+     * @param userId     The ID of the user giving the signal
+     */
+    public ContentSignal(Content content, ContentSignalType signalType, Long userId) {
+        this.content = content;
+        this.signalType = signalType;
+        this.userId = userId;
+    }
+
+    /**
+     * @return The unique identifier of the signal
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @param id The unique identifier to set
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return The content the signal was given to
+     */
+    public Content getContent() {
+        return content;
+    }
+
+    /**
+     * @param content The content to set
+     */
+    public void setContent(Content content) {
+        this.content = content;
+    }
+
+    /**
+     * @return The kind of signal
+     */
+    public ContentSignalType getSignalType() {
+        return signalType;
+    }
+
+    /**
+     * @param signalType The kind of signal to set
+     */
+    public void setSignalType(ContentSignalType signalType) {
+        this.signalType = signalType;
+    }
+
+    /**
+     * @return The ID of the user who gave the signal
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * @param userId The ID of the user to set
+     */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * @return The timestamp when the signal was given
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @param createdAt The timestamp to set
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ContentSignal that = (ContentSignal) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
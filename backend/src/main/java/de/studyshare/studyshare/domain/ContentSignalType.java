@@ -0,0 +1,16 @@
+package de.studyshare.studyshare.domain;
+
+/**
+ * Enum representing the kinds of signals a user can give about content.
+ * Each user can give each signal at most once per content item.
+ */
+public enum ContentSignalType {
+    /**
+     * The content was reported as inappropriate.
+     */
+    REPORT,
+    /**
+     * The content was marked as outdated.
+     */
+    OUTDATED
+}
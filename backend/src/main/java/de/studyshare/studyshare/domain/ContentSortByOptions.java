@@ -6,5 +6,10 @@ package de.studyshare.studyshare.domain;
 public enum ContentSortByOptions {
     uploadDate,
     title,
-    rating
+    rating,
+    /**
+     * Most relevant to the search term first. Falls back to uploadDate when no
+     * search term is given.
+     */
+    relevance
 }
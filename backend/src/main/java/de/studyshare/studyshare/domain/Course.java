@@ -4,6 +4,10 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -23,6 +27,8 @@ import jakarta.persistence.ManyToOne;
  * platform.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Course {
 
     /**
@@ -48,7 +54,11 @@ public class Course {
      * Set of lecturers teaching this course.
      * Many-to-many relationship as multiple lecturers can teach the same course,
      * and a single lecturer can teach multiple courses.
+     * This is the owning side, kept in the second-level cache: the helpers of
+     * both sides change the join table through this set, which replaces the
+     * cache entry on flush.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(cascade = { CascadeType.PERSIST, CascadeType.MERGE })
     @JoinTable(name = "course_lecturer", joinColumns = @JoinColumn(name = "course_id"), inverseJoinColumns = @JoinColumn(name = "lecturer_id"))
     private Set<Lecturer> lecturers = new HashSet<>();
@@ -4,6 +4,10 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -18,6 +22,8 @@ import jakarta.persistence.ManyToMany;
  * relationships with courses they teach.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Lecturer {
 
     /**
@@ -41,6 +47,8 @@ public class Lecturer {
      * Set of courses taught by this lecturer.
      * Many-to-many relationship as a lecturer can teach multiple courses,
      * and a course can be taught by multiple lecturers.
+     * Not kept in the second-level cache: it is the inverse side, whose cache
+     * entry Hibernate does not update when {@link Course#getLecturers()} changes.
      */
     @ManyToMany(mappedBy = "lecturers")
     private Set<Course> courses = new HashSet<>();
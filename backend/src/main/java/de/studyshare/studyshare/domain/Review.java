@@ -12,9 +12,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
@@ -27,6 +29,9 @@ import jakarta.validation.constraints.Min;
  * created it.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_content_created_at_id", columnList = "content_id, created_at, id")
+})
 public class Review {
 
     /**
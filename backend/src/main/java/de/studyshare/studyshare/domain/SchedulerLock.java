@@ -0,0 +1,102 @@
+package de.studyshare.studyshare.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity representing a lease on a scheduled job.
+ * When several nodes run the same scheduled job, only the node holding the
+ * lease does the work. A lease expires on its own, so a node that dies while
+ * holding it does not block the job forever.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    /**
+     * The name of the job the lease belongs to.
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * The time the lease expires, by the database clock.
+     */
+    @Column(nullable = false)
+    private Instant lockedUntil;
+
+    /**
+     * The node holding the lease, for diagnostics.
+     */
+    @Column(nullable = false)
+    private String lockedBy;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public SchedulerLock() {
+    }
+
+    /**
+     * @return The name of the job the lease belongs to
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param name The name of the job the lease belongs to
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The time the lease expires
+     */
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    /**
+     * @param lockedUntil The time the lease expires
+     */
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * @return The node holding the lease
+     */
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    /**
+     * @param lockedBy The node holding the lease
+     */
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        SchedulerLock that = (SchedulerLock) o;
+        return Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+}
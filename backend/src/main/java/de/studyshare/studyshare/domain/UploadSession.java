@@ -0,0 +1,347 @@
+package de.studyshare.studyshare.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Entity representing a chunked upload that is still in progress.
+ * It links an S3 multipart upload to the content that is created once all
+ * parts have been uploaded. The parts themselves are tracked by S3, so
+ * clients can upload them in parallel and resume after a disconnect.
+ * Course, lecturer and faculty are stored as plain IDs, so a pending upload
+ * never blocks deleting them; they are checked again when the content is
+ * created.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_session_created_at", columnList = "created_at")
+})
+public class UploadSession {
+
+    /**
+     * Unique identifier for the upload session.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The ID S3 assigned to the multipart upload.
+     */
+    @Column(nullable = false, length = 1024)
+    private String s3UploadId;
+
+    /**
+     * The key of the object in S3 once the upload is complete.
+     */
+    @Column(nullable = false, columnDefinition = "VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin")
+    private String objectKey;
+
+    /**
+     * Reference to the user who started the upload.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User uploadedBy;
+
+    /**
+     * Category of the content that will be created.
+     */
+    @Enumerated(EnumType.STRING)
+    private ContentCategory contentCategory;
+
+    /**
+     * ID of the course the content will belong to.
+     */
+    private Long courseId;
+
+    /**
+     * ID of the lecturer the content will be associated with.
+     */
+    private Long lecturerId;
+
+    /**
+     * ID of the faculty the content will be related to.
+     */
+    private Long facultyId;
+
+    /**
+     * Title of the content that will be created.
+     */
+    private String title;
+
+    /**
+     * Total size of the file in bytes, as announced by the client.
+     */
+    private long fileSize;
+
+    /**
+     * Size of every part in bytes, except for the last one.
+     */
+    private long partSize;
+
+    /**
+     * Timestamp when the upload was started.
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * Whether a request is currently completing the upload. It is set with a
+     * conditional update, so only one of several concurrent completions
+     * proceeds.
+     */
+    @Column(nullable = false)
+    private boolean completing;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public UploadSession() {
+    }
+
+    /**
+     * @return The unique identifier of this upload session
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @param id The unique identifier to set
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return The ID of the S3 multipart upload
+     */
+    public String getS3UploadId() {
+        return s3UploadId;
+    }
+
+    /**
+     * @param s3UploadId The ID of the S3 multipart upload
+     */
+    public void setS3UploadId(String s3UploadId) {
+        this.s3UploadId = s3UploadId;
+    }
+
+    /**
+     * @return The key of the object in S3
+     */
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    /**
+     * @param objectKey The key of the object in S3
+     */
+    public void setObjectKey(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    /**
+     * @return The user who started the upload
+     */
+    public User getUploadedBy() {
+        return uploadedBy;
+    }
+
+    /**
+     * @param uploadedBy The user who started the upload
+     */
+    public void setUploadedBy(User uploadedBy) {
+        this.uploadedBy = uploadedBy;
+    }
+
+    /**
+     * @return The category of the content that will be created
+     */
+    public ContentCategory getContentCategory() {
+        return contentCategory;
+    }
+
+    /**
+     * @param contentCategory The category of the content that will be created
+     */
+    public void setContentCategory(ContentCategory contentCategory) {
+        this.contentCategory = contentCategory;
+    }
+
+    /**
+     * @return The ID of the course the content will belong to
+     */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * @param courseId The ID of the course the content will belong to
+     */
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /**
+     * @return The ID of the lecturer the content will be associated with
+     */
+    public Long getLecturerId() {
+        return lecturerId;
+    }
+
+    /**
+     * @param lecturerId The ID of the lecturer the content will be associated
+     *                   with
+     */
+    public void setLecturerId(Long lecturerId) {
+        this.lecturerId = lecturerId;
+    }
+
+    /**
+     * @return The ID of the faculty the content will be related to
+     */
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    /**
+     * @param facultyId The ID of the faculty the content will be related to
+     */
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    /**
+     * @return The title of the content that will be created
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param title The title of the content that will be created
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return The total size of the file in bytes
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @param fileSize The total size of the file in bytes
+     */
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * @return The size of every part in bytes, except for the last one
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * @param partSize The size of every part in bytes, except for the last one
+     */
+    public void setPartSize(long partSize) {
+        this.partSize = partSize;
+    }
+
+    /**
+     * @return The timestamp when the upload was started
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @param createdAt The timestamp when the upload was started
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * @return Whether a request is currently completing the upload
+     */
+    public boolean isCompleting() {
+        return completing;
+    }
+
+    /**
+     * @param completing Whether a request is currently completing the upload
+     */
+    public void setCompleting(boolean completing) {
+        this.completing = completing;
+    }
+
+    /**
+     * @return The number of parts the file is split into
+     */
+    public int getPartCount() {
+        return (int) ((fileSize + partSize - 1) / partSize);
+    }
+
+    /**
+     * Calculates the expected size of a part.
+     *
+     * @param partNumber The number of the part, starting at 1
+     * @return The size of the part in bytes
+     */
+    public long getExpectedPartSize(int partNumber) {
+        return partNumber < getPartCount() ? partSize : fileSize - (long) (partNumber - 1) * partSize;
+    }
+
+    /**
+     * Compares this upload session with another object for equality.
+     * Two upload sessions are considered equal if they have the same ID.
+     *
+     * @param o The object to compare with
+     * @return true if the objects are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UploadSession that = (UploadSession) o;
+        return id != null ? id.equals(that.id) : that.id == null;
+    }
+
+    /**
+     * Generates a hash code for this upload session based on its ID.
+     *
+     * @return The hash code value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
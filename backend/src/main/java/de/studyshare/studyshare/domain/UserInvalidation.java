@@ -0,0 +1,89 @@
+package de.studyshare.studyshare.domain;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Entity recording that all tokens issued to a user up to a point in time
+ * must be rejected, e.g. because the user was deleted.
+ * Every node polls this table, so an invalidation made on one node is
+ * enforced by all of them.
+ */
+@Entity
+@Table(name = "user_invalidations", indexes = {
+        @Index(name = "idx_user_invalidation_invalidated_at", columnList = "invalidated_at")
+})
+public class UserInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The username the invalidated tokens were issued to.
+     */
+    @NotBlank(message = "Username cannot be blank")
+    @Column(nullable = false, columnDefinition = "VARCHAR(30) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin")
+    private String username;
+
+    /**
+     * The time of the invalidation, taken from the database clock so that all
+     * nodes polling for new entries agree on it.
+     */
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(nullable = false, updatable = false)
+    private Instant invalidatedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public UserInvalidation() {
+    }
+
+    /**
+     * Constructs a new UserInvalidation.
+     *
+     * @param username the username whose tokens are invalidated
+     */
+    public UserInvalidation(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the unique identifier of the invalidation.
+     *
+     * @return the unique identifier of the invalidation
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the username whose tokens are invalidated.
+     *
+     * @return the username
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets the time of the invalidation.
+     *
+     * @return the time of the invalidation
+     */
+    public Instant getInvalidatedAt() {
+        return invalidatedAt;
+    }
+}
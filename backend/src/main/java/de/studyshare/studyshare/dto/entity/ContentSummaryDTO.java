@@ -0,0 +1,95 @@
+package de.studyshare.studyshare.dto.entity;
+
+import java.time.LocalDate;
+
+import de.studyshare.studyshare.domain.ContentCategory;
+
+/**
+ * Flat, read-only view of a content item for listings.
+ * Built directly from the selected columns by the query, so no entities are
+ * loaded into the persistence context. Related entities are reduced to their
+ * ID and display name.
+ */
+public record ContentSummaryDTO(
+        /**
+         * Unique identifier for the content.
+         */
+        Long id,
+
+        /**
+         * The title of the content.
+         */
+        String title,
+
+        /**
+         * The category of the content (e.g., PDF, IMAGE, etc.).
+         */
+        ContentCategory contentCategory,
+
+        /**
+         * The date when the content was uploaded.
+         */
+        LocalDate uploadDate,
+
+        /**
+         * The average rating of the content based on user reviews.
+         */
+        Double averageRating,
+
+        /**
+         * The number of times the content has been reported.
+         */
+        int reportedCount,
+
+        /**
+         * The number of times the content has been marked as outdated.
+         */
+        int outdatedCount,
+
+        /**
+         * The path to the file in storage.
+         */
+        String filePath,
+
+        /**
+         * The ID of the user who uploaded the content.
+         */
+        Long uploadedById,
+
+        /**
+         * The username of the user who uploaded the content.
+         */
+        String uploadedByUsername,
+
+        /**
+         * The ID of the course associated with the content.
+         */
+        Long courseId,
+
+        /**
+         * The name of the course associated with the content.
+         */
+        String courseName,
+
+        /**
+         * The ID of the lecturer associated with the content, or null if there is
+         * none.
+         */
+        Long lecturerId,
+
+        /**
+         * The name of the lecturer associated with the content, or null if there
+         * is none.
+         */
+        String lecturerName,
+
+        /**
+         * The ID of the faculty associated with the content.
+         */
+        Long facultyId,
+
+        /**
+         * The name of the faculty associated with the content.
+         */
+        String facultyName) {
+}
@@ -51,6 +51,6 @@ public record CourseDTO(
                         ? Collections.emptySet()
                         : course.getLecturers().stream()
                                 .map(Lecturer::getId)
-                                .collect(Collectors.toSet()));
+                                .collect(Collectors.toUnmodifiableSet()));
     }
 }
\ No newline at end of file
@@ -48,6 +48,6 @@ public record LecturerDTO(
                         ? Collections.emptySet()
                         : lecturer.getCourses().stream()
                                 .map(Course::getId)
-                                .collect(Collectors.toSet()));
+                                .collect(Collectors.toUnmodifiableSet()));
     }
 }
@@ -0,0 +1,48 @@
+package de.studyshare.studyshare.dto.entity;
+
+/**
+ * Star distribution and rating of a content item, read from the running
+ * totals kept on the content instead of from its reviews.
+ */
+public record RatingSummaryDTO(
+        /**
+         * The ID of the content the summary belongs to.
+         */
+        Long contentId,
+
+        /**
+         * Number of reviews giving 1 star.
+         */
+        int oneStarCount,
+
+        /**
+         * Number of reviews giving 2 stars.
+         */
+        int twoStarCount,
+
+        /**
+         * Number of reviews giving 3 stars.
+         */
+        int threeStarCount,
+
+        /**
+         * Number of reviews giving 4 stars.
+         */
+        int fourStarCount,
+
+        /**
+         * Number of reviews giving 5 stars.
+         */
+        int fiveStarCount,
+
+        /**
+         * Total number of reviews.
+         */
+        int totalCount,
+
+        /**
+         * Average rating, rounded to one decimal, or 0 without reviews.
+         */
+        Double averageRating) {
+
+}
@@ -0,0 +1,84 @@
+package de.studyshare.studyshare.dto.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, read-only view of a review for listings.
+ * Built directly from the selected columns by the query, so no entities are
+ * loaded and the reviewer's username comes from the same query. The comment
+ * is cut to {@link #COMMENT_EXCERPT_LENGTH} characters by the database; the
+ * full comment is available from the review detail endpoint.
+ */
+public record ReviewSummaryDTO(
+        /**
+         * Unique identifier for the review.
+         */
+        Long id,
+
+        /**
+         * Star rating for the content, between 1 and 5.
+         */
+        int stars,
+
+        /**
+         * Brief subject or title of the review.
+         */
+        String subject,
+
+        /**
+         * The beginning of the comment, at most
+         * {@link #COMMENT_EXCERPT_LENGTH} characters.
+         */
+        String commentExcerpt,
+
+        /**
+         * Whether the comment is longer than the excerpt.
+         */
+        boolean commentTruncated,
+
+        /**
+         * The ID of the user who wrote the review.
+         */
+        Long userId,
+
+        /**
+         * The username of the user who wrote the review.
+         */
+        String username,
+
+        /**
+         * Timestamp when the review was created.
+         */
+        LocalDateTime createdAt,
+
+        /**
+         * Timestamp when the review was last updated.
+         */
+        LocalDateTime updatedAt) {
+
+    /**
+     * Number of comment characters included in listings.
+     */
+    public static final int COMMENT_EXCERPT_LENGTH = 200;
+
+    /**
+     * Constructor used by the listing query, which selects the comment excerpt
+     * and the length of the full comment.
+     *
+     * @param id             the ID of the review
+     * @param stars          the star rating
+     * @param subject        the subject of the review
+     * @param commentExcerpt the beginning of the comment
+     * @param commentLength  the length of the full comment, or null if there is
+     *                       no comment
+     * @param userId         the ID of the reviewer
+     * @param username       the username of the reviewer
+     * @param createdAt      the creation timestamp
+     * @param updatedAt      the update timestamp
+     */
+    public ReviewSummaryDTO(Long id, int stars, String subject, String commentExcerpt, Integer commentLength,
+            Long userId, String username, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, stars, subject, commentExcerpt, commentLength != null && commentLength > COMMENT_EXCERPT_LENGTH,
+                userId, username, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,70 @@
+package de.studyshare.studyshare.dto.entity;
+
+import java.time.Instant;
+import java.util.List;
+
+import de.studyshare.studyshare.domain.UploadSession;
+
+/**
+ * Data Transfer Object for UploadSession entities.
+ * Tells the client how to split the file and which parts S3 has already
+ * received, so an interrupted upload can be resumed.
+ */
+public record UploadSessionDTO(
+        /**
+         * Unique identifier for the upload session.
+         */
+        Long id,
+
+        /**
+         * The title of the content that will be created.
+         */
+        String title,
+
+        /**
+         * The total size of the file in bytes.
+         */
+        long fileSize,
+
+        /**
+         * The size of every part in bytes, except for the last one.
+         */
+        long partSize,
+
+        /**
+         * The number of parts the file has to be split into.
+         */
+        int partCount,
+
+        /**
+         * The numbers of the parts that have already been uploaded.
+         */
+        List<Integer> uploadedParts,
+
+        /**
+         * Timestamp when the upload was started.
+         */
+        Instant createdAt) {
+
+    /**
+     * Converts an UploadSession entity to an UploadSessionDTO.
+     *
+     * @param session       The UploadSession entity to convert
+     * @param uploadedParts The numbers of the parts S3 has already received
+     * @return A new UploadSessionDTO with data from the entity, or null if the
+     *         input is null
+     */
+    public static UploadSessionDTO fromEntity(UploadSession session, List<Integer> uploadedParts) {
+        if (session == null) {
+            return null;
+        }
+        return new UploadSessionDTO(
+                session.getId(),
+                session.getTitle(),
+                session.getFileSize(),
+                session.getPartSize(),
+                session.getPartCount(),
+                uploadedParts,
+                session.getCreatedAt());
+    }
+}
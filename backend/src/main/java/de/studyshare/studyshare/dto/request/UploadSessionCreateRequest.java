@@ -0,0 +1,56 @@
+package de.studyshare.studyshare.dto.request;
+
+import de.studyshare.studyshare.domain.ContentCategory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for starting a chunked upload.
+ * Contains the details of the content that is created once all parts of the
+ * file have been uploaded.
+ */
+public record UploadSessionCreateRequest(
+        /**
+         * The category of the content being created.
+         * Cannot be null.
+         */
+        @NotNull(message = "Content category cannot be null") ContentCategory contentCategory,
+        /**
+         * The ID of the course associated with the content.
+         * Cannot be null.
+         */
+        @NotNull(message = "Course ID cannot be null") Long courseId,
+        /**
+         * The ID of the lecturer creating the content.
+         * Cannot be null.
+         */
+        @NotNull(message = "Lecturer ID cannot be null") Long lecturerId,
+        /**
+         * The ID of the faculty associated with the content.
+         * Cannot be null.
+         */
+        @NotNull(message = "Faculty ID cannot be null") Long facultyId,
+        /**
+         * The title of the content being created.
+         * Cannot be null or blank, and must not exceed 255 characters.
+         */
+        @NotNull(message = "Title cannot be null") @NotBlank(message = "Title cannot be blank") @Size(max = 255, message = "Title is too long") String title,
+        /**
+         * The name of the file being uploaded.
+         * Cannot be blank, and must not exceed 200 characters.
+         */
+        @NotBlank(message = "Filename cannot be blank") @Size(max = 200, message = "Filename is too long") String filename,
+        /**
+         * The total size of the file in bytes.
+         * Must be positive.
+         */
+        @NotNull(message = "File size cannot be null") @Positive(message = "File size must be positive") Long fileSize,
+        /**
+         * The MIME type of the file.
+         * Optional, defaults to application/octet-stream.
+         */
+        String contentType) {
+
+}
@@ -0,0 +1,53 @@
+package de.studyshare.studyshare.dto.response;
+
+import java.util.List;
+import java.util.Set;
+
+import de.studyshare.studyshare.dto.entity.CourseDTO;
+import de.studyshare.studyshare.dto.entity.FacultyDTO;
+import de.studyshare.studyshare.dto.entity.LecturerDTO;
+
+/**
+ * Response DTO for the faculty, course and lecturer catalog at one version.
+ * Without a base version it contains the whole catalog. With a base version
+ * it contains only the entities created or changed since then, and the IDs of
+ * the deleted ones.
+ */
+public record CatalogResponse(
+        /**
+         * The catalog version of this response, also sent as the ETag.
+         */
+        long version,
+        /**
+         * The version the response is a delta against, or null for the whole
+         * catalog.
+         */
+        Long since,
+        /**
+         * The faculties, or the created and changed faculties of a delta.
+         */
+        List<FacultyDTO> faculties,
+        /**
+         * The courses, or the created and changed courses of a delta.
+         */
+        List<CourseDTO> courses,
+        /**
+         * The lecturers, or the created and changed lecturers of a delta.
+         */
+        List<LecturerDTO> lecturers,
+        /**
+         * The IDs of faculties deleted since the base version.
+         */
+        Set<Long> deletedFacultyIds,
+        /**
+         * The IDs of courses deleted since the base version.
+         */
+        Set<Long> deletedCourseIds,
+        /**
+         * The IDs of lecturers deleted since the base version.
+         */
+        Set<Long> deletedLecturerIds
+
+) {
+
+}
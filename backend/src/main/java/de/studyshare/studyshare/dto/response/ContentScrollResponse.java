@@ -0,0 +1,25 @@
+package de.studyshare.studyshare.dto.response;
+
+import java.util.List;
+
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
+
+/**
+ * Response DTO for one page of keyset-paginated content.
+ * Contains the content summaries of the page and the cursor of the next page
+ * instead of page numbers and totals.
+ */
+public record ContentScrollResponse(
+        /**
+         * List of content summaries in the current page.
+         */
+        List<ContentSummaryDTO> content,
+        /**
+         * Opaque cursor to pass back for the next page, or null if this is the
+         * last page.
+         */
+        String nextCursor
+
+) {
+
+}
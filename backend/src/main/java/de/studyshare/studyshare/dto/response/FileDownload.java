@@ -0,0 +1,102 @@
+package de.studyshare.studyshare.dto.response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * Response body for a file download.
+ * Wraps the open stream of a stored object together with the metadata needed
+ * to build the HTTP response, so the file can be piped to the client without
+ * being buffered in memory.
+ */
+public record FileDownload(
+        /**
+         * The open stream of the stored object, or null if the client's cached
+         * copy is still current.
+         */
+        InputStream inputStream,
+        /**
+         * The number of bytes in the stream as reported by the storage.
+         */
+        long contentLength,
+        /**
+         * The MIME type of the object as reported by the storage.
+         */
+        String contentType,
+        /**
+         * The filename presented to the client.
+         */
+        String filename,
+        /**
+         * The entity tag of the object, including its quotes.
+         */
+        String eTag,
+        /**
+         * The time the object was last modified.
+         */
+        Instant lastModified,
+        /**
+         * The Content-Range of a partial download, or null if the whole object
+         * is returned.
+         */
+        String contentRange) implements Closeable {
+
+    /**
+     * Creates a FileDownload without a body, signalling that the client's
+     * cached copy of the object is still current.
+     *
+     * @param eTag         the entity tag of the object
+     * @param lastModified the time the object was last modified
+     * @return a FileDownload representing a not modified object
+     */
+    public static FileDownload notModified(String eTag, Instant lastModified) {
+        return new FileDownload(null, 0, null, null, eTag, lastModified, null);
+    }
+
+    /**
+     * Checks whether the client's cached copy of the object is still current.
+     *
+     * @return true if there is no body to send
+     */
+    public boolean isNotModified() {
+        return inputStream == null;
+    }
+
+    /**
+     * Checks whether only a byte range of the object is returned.
+     *
+     * @return true if this is a partial download
+     */
+    public boolean isPartial() {
+        return contentRange != null;
+    }
+
+    /**
+     * Copies the object to the given output stream. Streams from S3 are copied
+     * through a fixed size buffer, while files from the local cache are handed
+     * to FileChannel.transferTo.
+     *
+     * @param outputStream the stream to write the object to
+     * @throws IOException if reading from the storage or writing to the client
+     *                     fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        inputStream.transferTo(outputStream);
+        outputStream.flush();
+    }
+
+    /**
+     * Closes the underlying stream and releases the storage connection.
+     *
+     * @throws IOException if closing the stream fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (inputStream != null) {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package de.studyshare.studyshare.dto.response;
+
+import java.util.List;
+
+import de.studyshare.studyshare.dto.entity.ReviewSummaryDTO;
+
+/**
+ * Response DTO for one page of keyset-paginated reviews of a content item.
+ * Contains the review summaries of the page, newest first, and the cursor of
+ * the next page.
+ */
+public record ReviewScrollResponse(
+        /**
+         * List of review summaries in the current page.
+         */
+        List<ReviewSummaryDTO> content,
+        /**
+         * Opaque cursor to pass back for the next page, or null if this is the
+         * last page.
+         */
+        String nextCursor
+
+) {
+
+}
@@ -65,6 +65,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles RangeNotSatisfiableException and returns a 416 Range Not
+     * Satisfiable response.
+     *
+     * @param ex      the exception thrown
+     * @param request the web request
+     * @return ResponseEntity with error details and HTTP status 416
+     */
+    @ExceptionHandler(RangeNotSatisfiableException.class)
+    public ResponseEntity<?> handleRangeNotSatisfiableException(RangeNotSatisfiableException ex,
+            WebRequest request) {
+        logger.error("RangeNotSatisfiableException: {}", ex.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    }
+
+    /**
+     * Handles PreconditionFailedException and returns a 412 Precondition Failed
+     * response.
+     *
+     * @param ex      the exception thrown
+     * @param request the web request
+     * @return ResponseEntity with error details and HTTP status 412
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailedException(PreconditionFailedException ex,
+            WebRequest request) {
+        logger.error("PreconditionFailedException: {}", ex.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.PRECONDITION_FAILED);
+    }
+
     /**
      * Handles MethodArgumentNotValidException and returns a 400 Bad Request
      * response
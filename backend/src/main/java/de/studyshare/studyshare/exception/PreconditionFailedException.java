@@ -0,0 +1,22 @@
+package de.studyshare.studyshare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a conditional request's If-Match or
+ * If-Unmodified-Since precondition does not hold for a stored file.
+ * The response status for this exception is set to 412 Precondition Failed.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+    /**
+     * Constructs a new PreconditionFailedException with the specified detail
+     * message.
+     *
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package de.studyshare.studyshare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a requested byte range lies outside of a stored file.
+ * The response status for this exception is set to 416 Range Not Satisfiable.
+ */
+@ResponseStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+public class RangeNotSatisfiableException extends RuntimeException {
+    /**
+     * Constructs a new RangeNotSatisfiableException with the specified detail
+     * message.
+     *
+     * @param message the detail message
+     */
+    public RangeNotSatisfiableException(String message) {
+        super(message);
+    }
+}
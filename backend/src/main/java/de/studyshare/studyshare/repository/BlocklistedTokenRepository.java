@@ -1,9 +1,18 @@
 package de.studyshare.studyshare.repository;
 
 import de.studyshare.studyshare.domain.BlocklistedToken;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,12 +41,37 @@ public interface BlocklistedTokenRepository extends JpaRepository<BlocklistedTok
     boolean existsByJti(String jti);
 
     /**
-     * Deletes all blocklisted tokens whose expiry date is before the given
-     * timestamp.
-     * This is useful for cleaning up old, expired tokens from the blocklist.
+     * Finds all blocklisted tokens that expire after the given timestamp, i.e.
+     * the tokens that could still be presented by a client.
      *
      * @param now The current timestamp.
+     * @return The blocklisted tokens that have not expired yet.
+     */
+    List<BlocklistedToken> findByExpiryDateAfter(Instant now);
+
+    /**
+     * Finds all blocklisted tokens that were blocklisted after the given
+     * timestamp, i.e. the entries added since a node last synchronized.
+     *
+     * @param since The timestamp to search from.
+     * @return The blocklisted tokens created after the timestamp.
+     */
+    List<BlocklistedToken> findByCreatedAtAfter(Instant since);
+
+    /**
+     * Deletes up to {@code limit} blocklisted tokens whose expiry date is
+     * before the given timestamp, using the expiry index and without loading
+     * the entities. Each call commits on its own, so a large cleanup holds its
+     * locks only briefly. The query space tells Hibernate that only this table
+     * changes, so the statement leaves the second-level cache alone.
+     *
+     * @param now   The current timestamp.
+     * @param limit The maximum number of tokens to delete.
      * @return The number of tokens deleted.
      */
-    long deleteByExpiryDateBefore(Instant now);
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "blocklisted_tokens"))
+    @Query(value = "DELETE FROM blocklisted_tokens WHERE expiry_date < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
 }
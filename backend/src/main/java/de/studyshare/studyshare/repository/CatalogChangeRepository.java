@@ -0,0 +1,26 @@
+package de.studyshare.studyshare.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import de.studyshare.studyshare.domain.CatalogChange;
+
+/**
+ * Repository interface for managing CatalogChange entities.
+ */
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    /**
+     * Finds the changes between two catalog versions.
+     *
+     * @param since   the version the client has, exclusive
+     * @param version the version to update the client to, inclusive
+     * @return the changes in the range, in version order
+     */
+    @Query("select c from CatalogChange c where c.version > :since and c.version <= :version "
+            + "order by c.version, c.id")
+    List<CatalogChange> findChangesBetween(@Param("since") long since, @Param("version") long version);
+}
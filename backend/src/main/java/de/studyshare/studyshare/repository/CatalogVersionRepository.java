@@ -0,0 +1,45 @@
+package de.studyshare.studyshare.repository;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import de.studyshare.studyshare.domain.CatalogVersion;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for the CatalogVersion row.
+ * The version is incremented with a single statement that creates the row on
+ * first use, and it declares its table as the query space, so it does not
+ * clear the second-level cache.
+ */
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, Integer> {
+
+    /**
+     * Increments the catalog version. Must run in the transaction changing the
+     * catalog, which then holds the lock on the version row until it ends.
+     *
+     * @return The number of rows affected.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "catalog_version"))
+    @Query(value = "INSERT INTO catalog_version (id, version) VALUES (" + CatalogVersion.ID + ", 1) "
+            + "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int increment();
+
+    /**
+     * Finds the current catalog version. Inside a transaction that incremented
+     * it, this is the version of that transaction's changes.
+     *
+     * @return The current catalog version, or 0 if nothing has changed yet.
+     */
+    @Query("select coalesce(max(v.version), 0) from CatalogVersion v")
+    long findCurrentVersion();
+}
@@ -0,0 +1,108 @@
+package de.studyshare.studyshare.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import de.studyshare.studyshare.domain.ContentSortByOptions;
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
+
+/**
+ * Position of the last content item of a keyset page. The next page starts
+ * strictly after this item in the (sort key, id) order, so it can be found
+ * with an index seek instead of skipping all previous rows.
+ * Clients only see the encoded form, which they pass back unchanged.
+ *
+ * @param sortBy    the sort key of the scroll
+ * @param direction the direction of the scroll
+ * @param value     the sort key value of the last item, as text
+ * @param id        the ID of the last item, breaking ties of the sort key
+ */
+public record ContentKeysetCursor(ContentSortByOptions sortBy, Sort.Direction direction, String value, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates the cursor pointing after the given content summary.
+     *
+     * @param sortBy    the sort key of the scroll
+     * @param direction the direction of the scroll
+     * @param last      the last content summary of the current page
+     * @return the cursor of the next page
+     */
+    public static ContentKeysetCursor after(ContentSortByOptions sortBy, Sort.Direction direction,
+            ContentSummaryDTO last) {
+        Object value = switch (sortBy) {
+            case uploadDate -> last.uploadDate();
+            case title -> last.title();
+            case rating -> last.averageRating();
+            case relevance -> throw new IllegalArgumentException("Relevance has no keyset");
+        };
+        return new ContentKeysetCursor(sortBy, direction, String.valueOf(value), last.id());
+    }
+
+    /**
+     * Decodes a cursor previously returned to a client.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static ContentKeysetCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        // The value comes last, since titles may contain the separator.
+        String[] parts = decoded.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        ContentKeysetCursor cursor = new ContentKeysetCursor(
+                ContentSortByOptions.valueOf(parts[0]),
+                Sort.Direction.valueOf(parts[1]),
+                parts[3],
+                Long.valueOf(parts[2]));
+        cursor.typedValue();
+        return cursor;
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the name of the Content attribute the scroll is sorted by
+     */
+    public String attribute() {
+        return attribute(sortBy);
+    }
+
+    /**
+     * @return the sort key value of the last item, converted to the type of
+     *         the sorted attribute
+     */
+    public Comparable<?> typedValue() {
+        return switch (sortBy) {
+            case uploadDate -> LocalDate.parse(value);
+            case title -> value;
+            case rating -> Double.valueOf(value);
+            case relevance -> throw new IllegalArgumentException("Relevance has no keyset");
+        };
+    }
+
+    /**
+     * Returns the name of the Content attribute behind a sort option.
+     *
+     * @param sortBy the sort option
+     * @return the attribute name
+     */
+    public static String attribute(ContentSortByOptions sortBy) {
+        return sortBy == ContentSortByOptions.rating ? "averageRating" : sortBy.name();
+    }
+}
@@ -1,24 +1,43 @@
 package de.studyshare.studyshare.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import de.studyshare.studyshare.domain.Content;
+import de.studyshare.studyshare.dto.entity.RatingSummaryDTO;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing Content entities.
  * Provides methods to perform CRUD operations and custom queries on Content
  * data.
+ * The listing queries fetch the associations shown in a ContentDTO with the
+ * {@link Content#WITH_ASSOCIATIONS} entity graph, so mapping a page does not
+ * lazily load them row by row. Spring Data does not apply entity graphs to
+ * count queries, so these stay free of joins.
  */
-public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpecificationExecutor<Content> {
+public interface ContentRepository
+        extends JpaRepository<Content, Long>, JpaSpecificationExecutor<Content>, ContentSummaryRepository {
     /**
      * Finds all Content entities associated with a specific faculty ID.
      *
      * @param facultyId the ID of the faculty to filter content by
      * @return a list of Content entities associated with the specified faculty ID
      */
+    @EntityGraph(Content.WITH_ASSOCIATIONS)
     List<Content> findByFacultyId(Long facultyId);
 
     /**
@@ -27,5 +46,179 @@ public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpec
      * @param courseId the ID of the course to filter content by
      * @return a list of Content entities associated with the specified course ID
      */
+    @EntityGraph(Content.WITH_ASSOCIATIONS)
     List<Content> findByCourseId(Long courseId);
+
+    /**
+     * Finds all Content entities together with their associations.
+     *
+     * @return a list of all Content entities
+     */
+    @Override
+    @EntityGraph(Content.WITH_ASSOCIATIONS)
+    List<Content> findAll();
+
+    /**
+     * Finds a page of Content entities matching a specification, together with
+     * their associations.
+     *
+     * @param spec     the specification to filter content by
+     * @param pageable the pagination and sorting information
+     * @return a page of matching Content entities
+     */
+    @Override
+    @EntityGraph(Content.WITH_ASSOCIATIONS)
+    Page<Content> findAll(Specification<Content> spec, Pageable pageable);
+
+    /**
+     * Finds a Content entity by its ID, together with the associations shown in
+     * a ContentDTO.
+     *
+     * @param id the ID of the content
+     * @return the content, or empty if it does not exist
+     */
+    @EntityGraph(Content.WITH_ASSOCIATIONS)
+    Optional<Content> findWithAssociationsById(Long id);
+
+    /**
+     * Increments the report count of a content item in the database, so
+     * concurrent reports cannot overwrite each other.
+     *
+     * @param id the ID of the content
+     * @return the number of updated rows, 0 if the content does not exist
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Content c set c.reportedCount = c.reportedCount + 1 where c.id = :id")
+    int incrementReportedCount(@Param("id") Long id);
+
+    /**
+     * Increments the outdated count of a content item in the database, so
+     * concurrent marks cannot overwrite each other.
+     *
+     * @param id the ID of the content
+     * @return the number of updated rows, 0 if the content does not exist
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Content c set c.outdatedCount = c.outdatedCount + 1 where c.id = :id")
+    int incrementOutdatedCount(@Param("id") Long id);
+
+    /**
+     * Applies the change of one review to the rating of a content item in a
+     * single statement, so concurrent reviews cannot overwrite each other's
+     * update. The average is computed from the values before the change plus
+     * the deltas, which is correct whether the database evaluates the
+     * assignments one by one or simultaneously. It is divided as an exact
+     * decimal and rounded half up, the same way as in
+     * {@link #reconcileRatings(long, long)}, so both agree on averages like
+     * 3.25.
+     *
+     * @param contentId  the ID of the content
+     * @param sumDelta   the change of the sum of stars
+     * @param countDelta the change of the number of reviews
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Content c set
+                c.averageRating = case when c.ratingCount + :countDelta = 0 then 0.0
+                    else round((c.ratingSum + :sumDelta) * 1.0bd / (c.ratingCount + :countDelta), 1) end,
+                c.ratingSum = c.ratingSum + :sumDelta,
+                c.ratingCount = c.ratingCount + :countDelta
+            where c.id = :contentId
+            """)
+    int applyRatingDelta(@Param("contentId") Long contentId, @Param("sumDelta") long sumDelta,
+            @Param("countDelta") int countDelta);
+
+    /**
+     * Moves one review between the star counts of a content item, in the same
+     * way as {@link #applyRatingDelta(Long, long, int)}. Pass 0 as the removed
+     * stars for a new review and as the added stars for a deleted one.
+     *
+     * @param contentId    the ID of the content
+     * @param removedStars the previous stars of the review, or 0
+     * @param addedStars   the new stars of the review, or 0
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Content c set
+                c.oneStarCount = c.oneStarCount
+                    + case when :addedStars = 1 then 1 else 0 end - case when :removedStars = 1 then 1 else 0 end,
+                c.twoStarCount = c.twoStarCount
+                    + case when :addedStars = 2 then 1 else 0 end - case when :removedStars = 2 then 1 else 0 end,
+                c.threeStarCount = c.threeStarCount
+                    + case when :addedStars = 3 then 1 else 0 end - case when :removedStars = 3 then 1 else 0 end,
+                c.fourStarCount = c.fourStarCount
+                    + case when :addedStars = 4 then 1 else 0 end - case when :removedStars = 4 then 1 else 0 end,
+                c.fiveStarCount = c.fiveStarCount
+                    + case when :addedStars = 5 then 1 else 0 end - case when :removedStars = 5 then 1 else 0 end
+            where c.id = :contentId
+            """)
+    int applyStarCountDelta(@Param("contentId") Long contentId, @Param("removedStars") int removedStars,
+            @Param("addedStars") int addedStars);
+
+    /**
+     * Reads the star distribution and rating of a content item.
+     *
+     * @param contentId the ID of the content
+     * @return the rating summary, or empty if no content with the ID exists
+     */
+    @Query("""
+            select new de.studyshare.studyshare.dto.entity.RatingSummaryDTO(c.id, c.oneStarCount, c.twoStarCount,
+                c.threeStarCount, c.fourStarCount, c.fiveStarCount, c.ratingCount, c.averageRating)
+            from Content c where c.id = :contentId
+            """)
+    Optional<RatingSummaryDTO> findRatingSummary(@Param("contentId") Long contentId);
+
+    /**
+     * Finds the highest content ID, to split a pass over all content into
+     * ranges.
+     *
+     * @return the highest content ID, or null if there is no content
+     */
+    @Query("select max(c.id) from Content c")
+    Long findMaxId();
+
+    /**
+     * Recomputes the rating and star counts of the content items in an ID
+     * range from their reviews, and fixes the items whose stored values have
+     * drifted. The average is computed like in
+     * {@link #applyRatingDelta(Long, long, int)}. Only the content table is declared as changed, so the
+     * second-level cache of the reference entities survives the statement.
+     *
+     * @param fromId the lowest content ID of the range
+     * @param toId   the highest content ID of the range
+     * @return the number of repaired content items
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content"))
+    @Query(value = """
+            update content c
+            left join (select r.content_id, sum(r.stars) as star_sum, count(*) as review_count,
+                              sum(r.stars = 1) as one_star, sum(r.stars = 2) as two_stars,
+                              sum(r.stars = 3) as three_stars, sum(r.stars = 4) as four_stars,
+                              sum(r.stars = 5) as five_stars
+                       from review r where r.content_id between :fromId and :toId
+                       group by r.content_id) totals on totals.content_id = c.id
+            set c.average_rating = coalesce(round(totals.star_sum * 1.0 / totals.review_count, 1), 0),
+                c.rating_sum = coalesce(totals.star_sum, 0),
+                c.rating_count = coalesce(totals.review_count, 0),
+                c.one_star_count = coalesce(totals.one_star, 0),
+                c.two_star_count = coalesce(totals.two_stars, 0),
+                c.three_star_count = coalesce(totals.three_stars, 0),
+                c.four_star_count = coalesce(totals.four_stars, 0),
+                c.five_star_count = coalesce(totals.five_stars, 0)
+            where c.id between :fromId and :toId
+              and (c.rating_sum <> coalesce(totals.star_sum, 0)
+                   or c.rating_count <> coalesce(totals.review_count, 0)
+                   or c.one_star_count <> coalesce(totals.one_star, 0)
+                   or c.two_star_count <> coalesce(totals.two_stars, 0)
+                   or c.three_star_count <> coalesce(totals.three_stars, 0)
+                   or c.four_star_count <> coalesce(totals.four_stars, 0)
+                   or c.five_star_count <> coalesce(totals.five_stars, 0)
+                   or c.average_rating is null
+                   or c.average_rating <> coalesce(round(totals.star_sum * 1.0 / totals.review_count, 1), 0))
+            """, nativeQuery = true)
+    int reconcileRatings(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,27 @@
+package de.studyshare.studyshare.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import de.studyshare.studyshare.domain.ContentSignal;
+import de.studyshare.studyshare.domain.ContentSignalType;
+
+/**
+ * Repository interface for managing ContentSignal entities.
+ */
+public interface ContentSignalRepository extends JpaRepository<ContentSignal, Long> {
+
+    /**
+     * Finds the IDs of all users who gave a signal to a content item. Served
+     * by the unique index on content, signal type and user.
+     *
+     * @param contentId  the ID of the content
+     * @param signalType the kind of signal
+     * @return the IDs of the users who gave the signal
+     */
+    @Query("select s.userId from ContentSignal s where s.content.id = :contentId and s.signalType = :signalType")
+    List<Long> findUserIds(@Param("contentId") Long contentId, @Param("signalType") ContentSignalType signalType);
+}
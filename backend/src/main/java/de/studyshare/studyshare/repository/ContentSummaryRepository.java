@@ -0,0 +1,44 @@
+package de.studyshare.studyshare.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import de.studyshare.studyshare.domain.Content;
+import de.studyshare.studyshare.domain.ContentSortByOptions;
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
+
+/**
+ * Repository fragment for read-only content listings that select only the
+ * columns of a {@link ContentSummaryDTO} instead of loading entities.
+ */
+public interface ContentSummaryRepository {
+
+    /**
+     * Finds a page of content summaries matching a specification.
+     *
+     * @param spec     the specification to filter content by
+     * @param pageable the pagination and sorting information
+     * @return a page of matching content summaries
+     */
+    Page<ContentSummaryDTO> findSummaries(Specification<Content> spec, Pageable pageable);
+
+    /**
+     * Finds the content summaries matching a specification that follow a keyset
+     * cursor, ordered by the sort key and then by ID. No total count is
+     * computed.
+     *
+     * @param spec      the specification to filter content by
+     * @param sortBy    the sort key
+     * @param direction the sort direction, applied to the sort key and the ID
+     * @param after     the position of the last item of the previous page, or
+     *                  null for the first page
+     * @param limit     the maximum number of summaries to return
+     * @return the next summaries in scroll order
+     */
+    List<ContentSummaryDTO> findSummariesAfter(Specification<Content> spec, ContentSortByOptions sortBy,
+            Sort.Direction direction, ContentKeysetCursor after, int limit);
+}
@@ -0,0 +1,158 @@
+package de.studyshare.studyshare.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import de.studyshare.studyshare.domain.Content;
+import de.studyshare.studyshare.domain.ContentSortByOptions;
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Lecturer;
+import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementation of {@link ContentSummaryRepository} using a Criteria
+ * constructor expression, so that the same specifications as the entity
+ * queries can be used.
+ */
+class ContentSummaryRepositoryImpl implements ContentSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ContentSummaryDTO> findSummaries(Specification<Content> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ContentSummaryDTO> query = cb.createQuery(ContentSummaryDTO.class);
+        Root<Content> root = selectSummary(query, cb);
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<ContentSummaryDTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<ContentSummaryDTO> summaries = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(summaries, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ContentSummaryDTO> findSummariesAfter(Specification<Content> spec, ContentSortByOptions sortBy,
+            Sort.Direction direction, ContentKeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ContentSummaryDTO> query = cb.createQuery(ContentSummaryDTO.class);
+        Root<Content> root = selectSummary(query, cb);
+        Path<Comparable<Object>> key = root.get(ContentKeysetCursor.attribute(sortBy));
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (after != null) {
+            predicates.add(seekPredicate(cb, key, id, direction, after));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(direction.isAscending()
+                ? List.of(cb.asc(key), cb.asc(id))
+                : List.of(cb.desc(key), cb.desc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Selects the columns of a ContentSummaryDTO from Content and its
+     * associations.
+     */
+    private static Root<Content> selectSummary(CriteriaQuery<ContentSummaryDTO> query, CriteriaBuilder cb) {
+        Root<Content> root = query.from(Content.class);
+        Join<Content, User> uploadedBy = root.join("uploadedBy", JoinType.LEFT);
+        Join<Content, Course> course = root.join("course", JoinType.LEFT);
+        Join<Content, Lecturer> lecturer = root.join("lecturer", JoinType.LEFT);
+        Join<Content, Faculty> faculty = root.join("faculty", JoinType.LEFT);
+        query.select(cb.construct(ContentSummaryDTO.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("contentCategory"),
+                root.get("uploadDate"),
+                root.get("averageRating"),
+                root.get("reportedCount"),
+                root.get("outdatedCount"),
+                root.get("filePath"),
+                uploadedBy.get("id"),
+                uploadedBy.get("username"),
+                course.get("id"),
+                course.get("name"),
+                lecturer.get("id"),
+                lecturer.get("name"),
+                faculty.get("id"),
+                faculty.get("name")));
+        return root;
+    }
+
+    /**
+     * Matches the rows after the cursor in (key, id) order:
+     * {@code key > value OR (key = value AND id > lastId)}, or the same with
+     * {@code <} when scrolling in descending order.
+     */
+    private static Predicate seekPredicate(CriteriaBuilder cb, Path<Comparable<Object>> key, Path<Long> id,
+            Sort.Direction direction, ContentKeysetCursor after) {
+        @SuppressWarnings("unchecked")
+        Comparable<Object> value = (Comparable<Object>) after.typedValue();
+        if (direction.isAscending()) {
+            return cb.or(
+                    cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(id, after.id())));
+        }
+        return cb.or(
+                cb.lessThan(key, value),
+                cb.and(cb.equal(key, value), cb.lessThan(id, after.id())));
+    }
+
+    private long count(Specification<Content> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Content> root = countQuery.from(Content.class);
+        countQuery.select(cb.count(root));
+        Predicate predicate = toPredicate(spec, root, countQuery, cb);
+        if (predicate != null) {
+            countQuery.where(predicate);
+        }
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    private static Predicate toPredicate(Specification<Content> spec, Root<Content> root,
+            CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return spec == null ? null : spec.toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,57 @@
+package de.studyshare.studyshare.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import de.studyshare.studyshare.dto.entity.ReviewSummaryDTO;
+
+/**
+ * Position of the last review of a keyset page. Reviews are listed newest
+ * first, so the next page starts strictly before this review in the
+ * (createdAt, id) order and can be found with an index seek.
+ * Clients only see the encoded form, which they pass back unchanged.
+ *
+ * @param createdAt the creation timestamp of the last review
+ * @param id        the ID of the last review, breaking ties of the timestamp
+ */
+public record ReviewKeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates the cursor pointing after the given review summary.
+     *
+     * @param last the last review summary of the current page
+     * @return the cursor of the next page
+     */
+    public static ReviewKeysetCursor after(ReviewSummaryDTO last) {
+        return new ReviewKeysetCursor(last.createdAt(), last.id());
+    }
+
+    /**
+     * Decodes a cursor previously returned to a client.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static ReviewKeysetCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = decoded.split("\\|", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new ReviewKeysetCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[0]));
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = id + SEPARATOR + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,10 +1,15 @@
 package de.studyshare.studyshare.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import de.studyshare.studyshare.domain.Review;
+import de.studyshare.studyshare.dto.entity.ReviewSummaryDTO;
 
 /**
  * Repository interface for managing Review entities.
@@ -13,6 +18,16 @@ import de.studyshare.studyshare.domain.Review;
  */
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    /**
+     * Select clause of the review summary queries, which reads the first
+     * {@link ReviewSummaryDTO#COMMENT_EXCERPT_LENGTH} characters of each
+     * comment.
+     */
+    String SUMMARY_SELECT = "select new de.studyshare.studyshare.dto.entity.ReviewSummaryDTO("
+            + "r.id, r.stars, r.subject, substring(r.comment, 1, " + ReviewSummaryDTO.COMMENT_EXCERPT_LENGTH + "), "
+            + "length(r.comment), u.id, u.username, r.createdAt, r.updatedAt) "
+            + "from Review r join r.user u ";
+
     /**
      * Finds all reviews associated with a specific content ID.
      *
@@ -37,4 +52,39 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @param contentId the ID of the content whose reviews are to be deleted
      */
     void deleteByContentId(Long contentId);
+
+    /**
+     * Finds the newest review summaries of a content item, for the first page
+     * of a keyset scroll. The reviewer is joined in the same query and only the
+     * beginning of each comment is read.
+     *
+     * @param contentId the ID of the content
+     * @param limit     the maximum number of summaries to return
+     * @return the review summaries, newest first
+     */
+    @Query(SUMMARY_SELECT + """
+            where r.content.id = :contentId
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReviewSummaryDTO> findSummariesByContentId(@Param("contentId") Long contentId, Limit limit);
+
+    /**
+     * Finds the review summaries of a content item that come after the given
+     * position in newest-first order, for the following pages of a keyset
+     * scroll.
+     *
+     * @param contentId the ID of the content
+     * @param createdAt the creation timestamp of the last review of the
+     *                  previous page
+     * @param id        the ID of the last review of the previous page
+     * @param limit     the maximum number of summaries to return
+     * @return the review summaries, newest first
+     */
+    @Query(SUMMARY_SELECT + """
+            where r.content.id = :contentId
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReviewSummaryDTO> findSummariesByContentIdBefore(@Param("contentId") Long contentId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
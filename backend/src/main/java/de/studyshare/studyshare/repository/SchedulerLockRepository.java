@@ -0,0 +1,69 @@
+package de.studyshare.studyshare.repository;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import de.studyshare.studyshare.domain.SchedulerLock;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for managing SchedulerLock entities.
+ * Leases are taken and released with single conditional statements evaluated
+ * against the database clock, so concurrent nodes cannot both succeed.
+ * Each statement declares the table it changes as its query space, so it does
+ * not clear the second-level cache.
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * Creates the lease row for a job if it does not exist yet. The new lease
+     * is already expired, so any node may take it.
+     *
+     * @param name The name of the job.
+     * @return The number of rows inserted.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduler_locks"))
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (name, locked_until, locked_by) "
+            + "VALUES (:name, CURRENT_TIMESTAMP(6), '')", nativeQuery = true)
+    int insertIfMissing(@Param("name") String name);
+
+    /**
+     * Takes the lease of a job if it has expired.
+     *
+     * @param name         The name of the job.
+     * @param lockedBy     The node taking the lease.
+     * @param leaseSeconds How long the lease lasts.
+     * @return 1 if the lease was taken, 0 if another node holds it.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduler_locks"))
+    @Query(value = "UPDATE scheduler_locks "
+            + "SET locked_until = TIMESTAMPADD(SECOND, :leaseSeconds, CURRENT_TIMESTAMP(6)), locked_by = :lockedBy "
+            + "WHERE name = :name AND locked_until <= CURRENT_TIMESTAMP(6)", nativeQuery = true)
+    int acquire(@Param("name") String name, @Param("lockedBy") String lockedBy,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Ends the lease of a job early if the node still holds it.
+     *
+     * @param name     The name of the job.
+     * @param lockedBy The node holding the lease.
+     * @return The number of rows updated.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduler_locks"))
+    @Query(value = "UPDATE scheduler_locks SET locked_until = CURRENT_TIMESTAMP(6) "
+            + "WHERE name = :name AND locked_by = :lockedBy", nativeQuery = true)
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy);
+}
@@ -0,0 +1,66 @@
+package de.studyshare.studyshare.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import de.studyshare.studyshare.domain.UploadSession;
+
+/**
+ * Repository interface for managing UploadSession entities.
+ * Provides methods to perform CRUD operations and custom queries on upload
+ * sessions.
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    /**
+     * Finds an upload session by its ID if it was started by the given user.
+     *
+     * @param id       The ID of the upload session.
+     * @param username The username of the user who started the upload.
+     * @return An Optional containing the UploadSession if found, or empty if
+     *         not.
+     */
+    Optional<UploadSession> findByIdAndUploadedByUsername(Long id, String username);
+
+    /**
+     * Finds all upload sessions started before the given timestamp.
+     * This is used to abort uploads that were abandoned by their clients.
+     *
+     * @param createdAt The cutoff timestamp.
+     * @return A list of upload sessions started before the cutoff.
+     */
+    List<UploadSession> findByCreatedAtBefore(Instant createdAt);
+
+    /**
+     * Marks an upload session as being completed, unless another request is
+     * already completing it.
+     *
+     * @param id The ID of the upload session.
+     * @return 1 if the session was claimed, 0 if it is already being completed
+     *         or no longer exists.
+     */
+    @Modifying
+    @Transactional
+    @Query("update UploadSession s set s.completing = true where s.id = :id and s.completing = false")
+    int claimForCompletion(@Param("id") Long id);
+
+    /**
+     * Releases the claim of a completion that failed, so the client can retry.
+     *
+     * @param id The ID of the upload session.
+     * @return The number of rows updated.
+     */
+    @Modifying
+    @Transactional
+    @Query("update UploadSession s set s.completing = false where s.id = :id")
+    int releaseCompletionClaim(@Param("id") Long id);
+}
@@ -0,0 +1,47 @@
+package de.studyshare.studyshare.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import de.studyshare.studyshare.domain.UserInvalidation;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for managing UserInvalidation entities.
+ */
+@Repository
+public interface UserInvalidationRepository extends JpaRepository<UserInvalidation, Long> {
+
+    /**
+     * Finds all invalidations made after the given timestamp, i.e. the entries
+     * added since a node last synchronized.
+     *
+     * @param since The timestamp to search from.
+     * @return The invalidations made after the timestamp.
+     */
+    List<UserInvalidation> findByInvalidatedAtAfter(Instant since);
+
+    /**
+     * Deletes the invalidations made before the given timestamp, which no
+     * longer affect any unexpired token. The query space tells Hibernate that
+     * only this table changes, so the statement leaves the second-level cache
+     * alone.
+     *
+     * @param before The timestamp to delete up to.
+     * @return The number of invalidations deleted.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_invalidations"))
+    @Query(value = "DELETE FROM user_invalidations WHERE invalidated_at < :before", nativeQuery = true)
+    int deleteInvalidatedBefore(@Param("before") Instant before);
+}
@@ -1,12 +1,19 @@
 package de.studyshare.studyshare.service;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 
@@ -24,15 +31,18 @@ public class AwsService {
      * @param bucketName  the name of the S3 bucket
      * @param keyName     the key under which the file will be stored
      * @param fileSize    the size of the file in bytes
+     * @param contentType the MIME type stored with the object
      * @param inputStream the InputStream of the file to upload
      */
     public void uploadFile(String bucketName,
             String keyName,
             long fileSize,
+            String contentType,
             InputStream inputStream) {
         s3Client.putObject(builder -> builder
                 .bucket(bucketName)
                 .key(keyName)
+                .contentType(contentType)
                 .build(),
             software.amazon.awssdk.core.sync.RequestBody.fromInputStream(inputStream, fileSize));
     }
@@ -55,22 +65,180 @@ public class AwsService {
     }
 
     /**
-     * Lists all files in a specified S3 bucket.
+     * Opens a stream on an object stored in S3.
+     * The object is not buffered; the caller reads it straight from the HTTP
+     * connection and must close the returned stream.
      *
      * @param bucketName the name of the S3 bucket
-     * @return a list of file names in the bucket
+     * @param keyName    the key of the object to download
+     * @return the object content together with its S3 metadata
      */
-    public ByteArrayOutputStream downloadFile(
+    public ResponseInputStream<GetObjectResponse> downloadFile(
             final String bucketName,
-            final String keyName) throws IOException, S3Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        s3Client.getObject(
+            final String keyName) throws S3Exception {
+        return downloadFile(bucketName, keyName, null, null, null, null, null);
+    }
+
+    /**
+     * Opens a stream on a byte range of an object stored in S3, subject to
+     * HTTP preconditions. Null arguments are left out of the request.
+     * S3 answers a failed precondition with an S3Exception carrying status
+     * 304 (not modified) or 412 (precondition failed), and an unsatisfiable
+     * range with status 416.
+     *
+     * @param bucketName        the name of the S3 bucket
+     * @param keyName           the key of the object to download
+     * @param range             a single byte range in HTTP Range header syntax
+     * @param ifMatch           only return the object if its ETag matches
+     * @param ifNoneMatch       only return the object if its ETag does not
+     *                          match
+     * @param ifUnmodifiedSince only return the object if it did not change
+     *                          after this time
+     * @param ifModifiedSince   only return the object if it changed after this
+     *                          time
+     * @return the requested content together with its S3 metadata
+     */
+    public ResponseInputStream<GetObjectResponse> downloadFile(
+            final String bucketName,
+            final String keyName,
+            final String range,
+            final String ifMatch,
+            final String ifNoneMatch,
+            final Instant ifUnmodifiedSince,
+            final Instant ifModifiedSince) throws S3Exception {
+        return s3Client.getObject(
             software.amazon.awssdk.services.s3.model.GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(keyName)
-                .build(),
-            software.amazon.awssdk.core.sync.ResponseTransformer.toOutputStream(outputStream)
+                .range(range)
+                .ifMatch(ifMatch)
+                .ifNoneMatch(ifNoneMatch)
+                .ifUnmodifiedSince(ifUnmodifiedSince)
+                .ifModifiedSince(ifModifiedSince)
+                .build()
         );
-        return outputStream;
+    }
+
+    /**
+     * Fetches the metadata of an object stored in S3 without its content.
+     * A missing object is reported as an S3Exception with status 404.
+     *
+     * @param bucketName the name of the S3 bucket
+     * @param keyName    the key of the object
+     * @return the S3 metadata of the object
+     */
+    public HeadObjectResponse headFile(
+            final String bucketName,
+            final String keyName) throws S3Exception {
+        return s3Client.headObject(builder -> builder
+                .bucket(bucketName)
+                .key(keyName));
+    }
+
+    /**
+     * Starts a multipart upload of an object to S3.
+     *
+     * @param bucketName  the name of the S3 bucket
+     * @param keyName     the key under which the file will be stored
+     * @param contentType the MIME type stored with the object
+     * @return the ID of the multipart upload
+     */
+    public String createMultipartUpload(
+            final String bucketName,
+            final String keyName,
+            final String contentType) throws S3Exception {
+        return s3Client.createMultipartUpload(builder -> builder
+                .bucket(bucketName)
+                .key(keyName)
+                .contentType(contentType))
+            .uploadId();
+    }
+
+    /**
+     * Uploads one part of a multipart upload. The part is streamed to S3
+     * without being buffered in memory.
+     *
+     * @param bucketName  the name of the S3 bucket
+     * @param keyName     the key of the object being uploaded
+     * @param uploadId    the ID of the multipart upload
+     * @param partNumber  the number of the part, starting at 1
+     * @param partSize    the size of the part in bytes
+     * @param inputStream the InputStream of the part
+     * @return the ETag S3 assigned to the part
+     */
+    public String uploadPart(
+            final String bucketName,
+            final String keyName,
+            final String uploadId,
+            final int partNumber,
+            final long partSize,
+            final InputStream inputStream) throws S3Exception {
+        return s3Client.uploadPart(builder -> builder
+                .bucket(bucketName)
+                .key(keyName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(partSize),
+            software.amazon.awssdk.core.sync.RequestBody.fromInputStream(inputStream, partSize))
+            .eTag();
+    }
+
+    /**
+     * Lists the parts S3 has received for a multipart upload.
+     *
+     * @param bucketName the name of the S3 bucket
+     * @param keyName    the key of the object being uploaded
+     * @param uploadId   the ID of the multipart upload
+     * @return the uploaded parts, ordered by part number
+     */
+    public List<Part> listParts(
+            final String bucketName,
+            final String keyName,
+            final String uploadId) throws S3Exception {
+        List<Part> parts = new ArrayList<>();
+        s3Client.listPartsPaginator(builder -> builder
+                .bucket(bucketName)
+                .key(keyName)
+                .uploadId(uploadId))
+            .parts()
+            .forEach(parts::add);
+        return parts;
+    }
+
+    /**
+     * Completes a multipart upload, assembling the parts into the final object.
+     *
+     * @param bucketName the name of the S3 bucket
+     * @param keyName    the key of the object being uploaded
+     * @param uploadId   the ID of the multipart upload
+     * @param parts      the parts to assemble, ordered by part number
+     */
+    public void completeMultipartUpload(
+            final String bucketName,
+            final String keyName,
+            final String uploadId,
+            final List<CompletedPart> parts) throws S3Exception {
+        s3Client.completeMultipartUpload(builder -> builder
+                .bucket(bucketName)
+                .key(keyName)
+                .uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(parts)));
+    }
+
+    /**
+     * Aborts a multipart upload and discards all parts uploaded so far.
+     *
+     * @param bucketName the name of the S3 bucket
+     * @param keyName    the key of the object being uploaded
+     * @param uploadId   the ID of the multipart upload
+     */
+    public void abortMultipartUpload(
+            final String bucketName,
+            final String keyName,
+            final String uploadId) throws S3Exception {
+        s3Client.abortMultipartUpload(builder -> builder
+                .bucket(bucketName)
+                .key(keyName)
+                .uploadId(uploadId));
     }
 }
@@ -0,0 +1,33 @@
+package de.studyshare.studyshare.service;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+/**
+ * Propagates blocklisted JTIs between the nodes of a deployment, so that a
+ * token revoked on one node is rejected by all of them without every request
+ * asking the database.
+ * The default implementation polls the blocklist table
+ * ({@link DatabaseBlocklistSyncChannel}); a message broker can be plugged in
+ * by declaring another implementation as {@code @Primary} bean.
+ */
+public interface BlocklistSyncChannel {
+
+    /**
+     * Announces a JTI blocklisted on this node to the other nodes.
+     * May be called before the blocklisting transaction commits, so receivers
+     * must still confirm the JTI against the blocklist table.
+     *
+     * @param jti        the JWT ID
+     * @param expiryDate the original expiry date of the token
+     */
+    void publish(String jti, Instant expiryDate);
+
+    /**
+     * Registers a listener for JTIs blocklisted on any node. The listener may
+     * receive the same JTI more than once.
+     *
+     * @param listener receives the JTI and the expiry date of the token
+     */
+    void subscribe(BiConsumer<String, Instant> listener);
+}
@@ -0,0 +1,274 @@
+package de.studyshare.studyshare.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.studyshare.studyshare.domain.CatalogChange;
+import de.studyshare.studyshare.domain.CatalogEntityType;
+import de.studyshare.studyshare.domain.CatalogVersion;
+import de.studyshare.studyshare.dto.entity.CourseDTO;
+import de.studyshare.studyshare.dto.entity.FacultyDTO;
+import de.studyshare.studyshare.dto.entity.LecturerDTO;
+import de.studyshare.studyshare.repository.CatalogChangeRepository;
+import de.studyshare.studyshare.repository.CatalogVersionRepository;
+import de.studyshare.studyshare.repository.CourseRepository;
+import de.studyshare.studyshare.repository.FacultyRepository;
+import de.studyshare.studyshare.repository.LecturerRepository;
+
+/**
+ * In-process cache of the faculty, course and lecturer catalog, which changes
+ * rarely but is read on every page load to fill the filters.
+ * The whole catalog is loaded at once into an immutable {@link Snapshot} of
+ * DTO lists and ID-keyed maps, so reads do no database work until the next
+ * change. The services changing the catalog report each changed entity to
+ * {@link #recordChange(CatalogEntityType, Long)}, which increments the
+ * {@link CatalogVersion}, appends the entity to the {@link CatalogChange} log
+ * tagged with the new version and drops the snapshot after the commit. Changes
+ * made through other nodes become visible once the snapshot is older than
+ * {@code catalog.cache.ttl}.
+ */
+@Service
+public class CatalogCache {
+
+    private final FacultyRepository facultyRepository;
+    private final CourseRepository courseRepository;
+    private final LecturerRepository lecturerRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /**
+     * The current snapshot, or null if it has been invalidated.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Incremented by every invalidation. A snapshot is only published if no
+     * invalidation happened while it was loaded, since it might miss the
+     * change otherwise.
+     */
+    private long generation;
+
+    @Value("${catalog.cache.ttl:5m}")
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Immutable view of the whole catalog.
+     *
+     * @param version     the catalog version, which is the version of the
+     *                    latest change included
+     * @param faculties   all faculties
+     * @param courses     all courses
+     * @param lecturers   all lecturers
+     * @param facultyMap  the faculties by ID
+     * @param courseMap   the courses by ID
+     * @param lecturerMap the lecturers by ID
+     * @param loadedAt    when the snapshot was loaded, in nanoseconds of
+     *                    {@link System#nanoTime()}
+     */
+    public record Snapshot(
+            long version,
+            List<FacultyDTO> faculties,
+            List<CourseDTO> courses,
+            List<LecturerDTO> lecturers,
+            Map<Long, FacultyDTO> facultyMap,
+            Map<Long, CourseDTO> courseMap,
+            Map<Long, LecturerDTO> lecturerMap,
+            long loadedAt) {
+    }
+
+    /**
+     * Constructor for CatalogCache.
+     *
+     * @param facultyRepository       the repository faculties are loaded from
+     * @param courseRepository        the repository courses are loaded from
+     * @param lecturerRepository      the repository lecturers are loaded from
+     * @param catalogChangeRepository  the repository of the change log
+     * @param catalogVersionRepository the repository of the catalog version
+     * @param transactionManager       the transaction manager used to load a
+     *                                 snapshot in one read-only transaction
+     */
+    public CatalogCache(FacultyRepository facultyRepository,
+            CourseRepository courseRepository,
+            LecturerRepository lecturerRepository,
+            CatalogChangeRepository catalogChangeRepository,
+            CatalogVersionRepository catalogVersionRepository,
+            PlatformTransactionManager transactionManager) {
+        this.facultyRepository = facultyRepository;
+        this.courseRepository = courseRepository;
+        this.lecturerRepository = lecturerRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.catalogVersionRepository = catalogVersionRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Returns the current catalog, loading it first if it was invalidated or
+     * has expired.
+     *
+     * @return the catalog snapshot
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt() < ttl.toNanos()) {
+            return current;
+        }
+        // Inside a caller's transaction the load may see uncommitted changes,
+        // so the result is only published when it ran in its own transaction.
+        boolean ownTransaction = !TransactionSynchronizationManager.isActualTransactionActive();
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+        Snapshot loaded = readOnlyTransactionTemplate.execute(status -> load());
+        synchronized (this) {
+            if (ownTransaction && generation == loadingGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the current catalog, reloading it first if a client has already
+     * seen a newer version, e.g. through another node. The database version
+     * is checked with a single-row read, and the catalog is only reloaded if
+     * the database is actually ahead, so made-up versions cannot force
+     * reloads.
+     *
+     * @param version the newest version the client has seen
+     * @return the catalog snapshot, whose version may still be lower if the
+     *         database does not know the given version
+     */
+    public Snapshot snapshotAtLeast(long version) {
+        Snapshot current = snapshot();
+        if (version <= current.version() || catalogVersionRepository.findCurrentVersion() <= current.version()) {
+            return current;
+        }
+        invalidate();
+        return snapshot();
+    }
+
+    /**
+     * Records that a catalog entity was created, updated or deleted. Must be
+     * called in the transaction making the change, so the version increment
+     * and the log entry commit together with it. The transaction holds the
+     * lock on the version row from then on, so it should be called after the
+     * change itself.
+     *
+     * @param entityType the kind of entity that changed
+     * @param entityId   the ID of the entity that changed
+     */
+    public void recordChange(CatalogEntityType entityType, Long entityId) {
+        recordChanges(Map.of(entityType, List.of(entityId)));
+    }
+
+    /**
+     * Records all catalog entities changed by one transaction, see
+     * {@link #recordChange(CatalogEntityType, Long)}. The version is
+     * incremented once for the whole change, and not at all if no entity is
+     * given, so clients only see a new version when the catalog changed.
+     *
+     * @param changes the IDs of the changed entities by kind
+     */
+    public void recordChanges(Map<CatalogEntityType, ? extends Collection<Long>> changes) {
+        if (changes.values().stream().allMatch(Collection::isEmpty)) {
+            return;
+        }
+        catalogVersionRepository.increment();
+        long version = catalogVersionRepository.findCurrentVersion();
+        catalogChangeRepository.saveAll(changes.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .distinct()
+                        .map(entityId -> new CatalogChange(entry.getKey(), entityId, version)))
+                .toList());
+        invalidateAfterCommit();
+    }
+
+    /**
+     * Finds the entities changed after a catalog version, up to the version of
+     * a snapshot.
+     *
+     * @param since    the version the client has
+     * @param snapshot the snapshot the client is updated to
+     * @return the IDs of the changed entities by kind
+     */
+    public Map<CatalogEntityType, Set<Long>> changedSince(long since, Snapshot snapshot) {
+        Map<CatalogEntityType, Set<Long>> changed = new EnumMap<>(CatalogEntityType.class);
+        for (CatalogEntityType entityType : CatalogEntityType.values()) {
+            changed.put(entityType, new LinkedHashSet<>());
+        }
+        for (CatalogChange change : catalogChangeRepository.findChangesBetween(since, snapshot.version())) {
+            changed.get(change.getEntityType()).add(change.getEntityId());
+        }
+        return changed;
+    }
+
+    /**
+     * Drops the current snapshot once the current transaction has committed,
+     * or immediately if there is no transaction. Dropping it before the commit
+     * would let a concurrent read cache the old data again.
+     */
+    private void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * Drops the current snapshot, so the next read loads a new one.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    private Snapshot load() {
+        // All reads share the consistent snapshot of the repeatable read
+        // transaction, and every change commits together with its version
+        // increment, so the data is exactly the one of the version read.
+        long version = catalogVersionRepository.findCurrentVersion();
+        List<FacultyDTO> faculties = facultyRepository.findAll().stream()
+                .map(FacultyDTO::fromEntity)
+                .toList();
+        List<CourseDTO> courses = courseRepository.findAll().stream()
+                .map(CourseDTO::fromEntity)
+                .toList();
+        List<LecturerDTO> lecturers = lecturerRepository.findAll().stream()
+                .map(LecturerDTO::fromEntity)
+                .toList();
+        return new Snapshot(version, faculties, courses, lecturers,
+                byId(faculties, FacultyDTO::id),
+                byId(courses, CourseDTO::id),
+                byId(lecturers, LecturerDTO::id),
+                System.nanoTime());
+    }
+
+    private static <T> Map<Long, T> byId(List<T> values, Function<T, Long> id) {
+        return values.stream().collect(Collectors.toUnmodifiableMap(id, Function.identity()));
+    }
+}
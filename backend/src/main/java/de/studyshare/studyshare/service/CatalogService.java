@@ -0,0 +1,100 @@
+package de.studyshare.studyshare.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import de.studyshare.studyshare.domain.CatalogEntityType;
+import de.studyshare.studyshare.dto.response.CatalogResponse;
+import de.studyshare.studyshare.exception.BadRequestException;
+
+/**
+ * Service serving the faculty, course and lecturer catalog as one versioned
+ * document, so clients can fetch it in one request and revalidate or update
+ * it cheaply.
+ * The version is the one of the {@link CatalogCache} snapshot. Deltas are
+ * computed from the change log: a changed entity that is still in the
+ * snapshot was created or updated, otherwise it was deleted.
+ */
+@Service
+public class CatalogService {
+
+    private final CatalogCache catalogCache;
+
+    /**
+     * Constructor for CatalogService.
+     *
+     * @param catalogCache the cache the catalog is read from
+     */
+    public CatalogService(CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    /**
+     * Returns the current catalog version. If the client has already seen a
+     * newer version, e.g. through another node whose snapshot is more recent,
+     * it is revalidated against the database, so a client's version never
+     * goes backwards.
+     *
+     * @param seenVersion the newest version the client has seen, or -1
+     * @return the current catalog version
+     */
+    public long getCurrentVersion(long seenVersion) {
+        return catalogCache.snapshotAtLeast(seenVersion).version();
+    }
+
+    /**
+     * Retrieves the whole catalog, or the changes since a version the client
+     * already has.
+     *
+     * @param since       the version the client has, or null for the whole
+     *                    catalog
+     * @param seenVersion the newest version the client has seen, or -1, see
+     *                    {@link #getCurrentVersion(long)}
+     * @return the catalog or the delta to the current version
+     * @throws BadRequestException if the version is unknown
+     */
+    public CatalogResponse getCatalog(Long since, long seenVersion) {
+        if (since == null) {
+            CatalogCache.Snapshot snapshot = catalogCache.snapshotAtLeast(seenVersion);
+            return new CatalogResponse(snapshot.version(), null, snapshot.faculties(), snapshot.courses(),
+                    snapshot.lecturers(), Set.of(), Set.of(), Set.of());
+        }
+        // The client may have seen a newer version through another node.
+        CatalogCache.Snapshot snapshot = catalogCache.snapshotAtLeast(Math.max(since, seenVersion));
+        if (since < 0 || since > snapshot.version()) {
+            throw new BadRequestException("Unknown catalog version " + since + ".");
+        }
+
+        Map<CatalogEntityType, Set<Long>> changed = catalogCache.changedSince(since, snapshot);
+        Set<Long> deletedFacultyIds = new LinkedHashSet<>();
+        Set<Long> deletedCourseIds = new LinkedHashSet<>();
+        Set<Long> deletedLecturerIds = new LinkedHashSet<>();
+        return new CatalogResponse(snapshot.version(), since,
+                present(changed.get(CatalogEntityType.FACULTY), snapshot.facultyMap(), deletedFacultyIds),
+                present(changed.get(CatalogEntityType.COURSE), snapshot.courseMap(), deletedCourseIds),
+                present(changed.get(CatalogEntityType.LECTURER), snapshot.lecturerMap(), deletedLecturerIds),
+                Set.copyOf(deletedFacultyIds), Set.copyOf(deletedCourseIds), Set.copyOf(deletedLecturerIds));
+    }
+
+    /**
+     * Splits changed IDs into the entities still in the catalog, which are
+     * returned, and the deleted ones, which are added to the given set.
+     */
+    private static <T> List<T> present(Set<Long> changedIds, Map<Long, T> current, Set<Long> deletedIds) {
+        List<T> present = new ArrayList<>();
+        for (Long id : changedIds) {
+            T value = current.get(id);
+            if (value != null) {
+                present.add(value);
+            } else {
+                deletedIds.add(id);
+            }
+        }
+        return List.copyOf(present);
+    }
+}
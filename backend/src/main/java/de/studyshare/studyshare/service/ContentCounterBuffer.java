@@ -0,0 +1,153 @@
+package de.studyshare.studyshare.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Collects report and outdated clicks in memory and writes them to the
+ * database in periodic batches, used when {@code content.counters.buffered}
+ * is set. Popular content is clicked by many users at once; a striped
+ * {@link LongAdder} per content item absorbs those clicks without contention,
+ * and a single JDBC batch then adds them up in the table.
+ * Clicks are only buffered once the transaction recording them commits, and
+ * each batch is written in one transaction, so a failed batch can be retried
+ * without counting any click twice.
+ * Only the counter columns of the content table are batched: every click
+ * still inserts its {@code content_signals} row in the request, which is
+ * what rejects repeated clicks of a user. The buffer therefore only saves
+ * the contended UPDATE of the content row, not the write per click.
+ * Clicks not yet flushed are lost if the node crashes.
+ */
+@Service
+public class ContentCounterBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentCounterBuffer.class);
+
+    static final String FLUSH_SQL = "UPDATE content SET reported_count = reported_count + ?, "
+            + "outdated_count = outdated_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LongAdder> reports = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> outdatedMarks = new ConcurrentHashMap<>();
+
+    @Value("${content.counters.buffered:false}")
+    private boolean enabled;
+
+    /**
+     * Constructor for ContentCounterBuffer.
+     *
+     * @param jdbcTemplate       the template used to write the batches
+     * @param transactionManager the transaction manager each batch is written
+     *                           in
+     */
+    public ContentCounterBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return true if clicks should be buffered instead of written directly
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a report of a content item once the current transaction
+     * commits, or immediately if there is no transaction.
+     *
+     * @param contentId the ID of the content
+     */
+    public void addReport(Long contentId) {
+        addAfterCommit(reports, contentId);
+    }
+
+    /**
+     * Records an outdated mark of a content item once the current transaction
+     * commits, or immediately if there is no transaction.
+     *
+     * @param contentId the ID of the content
+     */
+    public void addOutdatedMark(Long contentId) {
+        addAfterCommit(outdatedMarks, contentId);
+    }
+
+    private static void addAfterCommit(Map<Long, LongAdder> counters, Long contentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counters.computeIfAbsent(contentId, id -> new LongAdder()).increment();
+            return;
+        }
+        // A rolled back click, e.g. a duplicate signal, must not be counted.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counters.computeIfAbsent(contentId, id -> new LongAdder()).increment();
+            }
+        });
+    }
+
+    /**
+     * Writes the buffered clicks to the database in one batch and resets the
+     * buffer. Clicks arriving during the flush are kept for the next one, and
+     * if the batch fails, its transaction is rolled back and its clicks are
+     * put back into the buffer.
+     *
+     * @return the number of content items updated
+     */
+    @Scheduled(fixedDelayString = "${content.counters.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized int flush() {
+        Map<Long, long[]> deltas = new HashMap<>();
+        drain(reports, deltas, 0);
+        drain(outdatedMarks, deltas, 1);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((contentId, delta) -> batch.add(new Object[] { delta[0], delta[1], contentId }));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (DataAccessException | TransactionException e) {
+            deltas.forEach((contentId, delta) -> {
+                reports.computeIfAbsent(contentId, id -> new LongAdder()).add(delta[0]);
+                outdatedMarks.computeIfAbsent(contentId, id -> new LongAdder()).add(delta[1]);
+            });
+            logger.warn("Could not flush buffered counters, retrying with the next flush: {}", e.getMessage());
+            return 0;
+        }
+        logger.debug("Flushed buffered counters of {} content items.", batch.size());
+        return batch.size();
+    }
+
+    private static void drain(Map<Long, LongAdder> counters, Map<Long, long[]> deltas, int index) {
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            // Adders are kept even when idle; removing one could lose a click
+            // that is being added to it concurrently.
+            if (count > 0) {
+                deltas.computeIfAbsent(entry.getKey(), id -> new long[2])[index] += count;
+            }
+        }
+    }
+}
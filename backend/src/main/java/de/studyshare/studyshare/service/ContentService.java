@@ -1,43 +1,68 @@
 package de.studyshare.studyshare.service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import de.studyshare.studyshare.domain.Content;
 import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.ContentSignalType;
 import de.studyshare.studyshare.domain.Course;
 import de.studyshare.studyshare.domain.Faculty;
 import de.studyshare.studyshare.domain.Lecturer;
 import de.studyshare.studyshare.domain.ContentSortByOptions;
 import de.studyshare.studyshare.domain.User;
 import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
 import de.studyshare.studyshare.dto.request.ContentCreateRequest;
 import de.studyshare.studyshare.dto.request.ContentUpdateRequest;
+import de.studyshare.studyshare.dto.response.ContentScrollResponse;
+import de.studyshare.studyshare.dto.response.FileDownload;
 import de.studyshare.studyshare.exception.BadRequestException;
+import de.studyshare.studyshare.exception.DuplicateResourceException;
+import de.studyshare.studyshare.exception.PreconditionFailedException;
+import de.studyshare.studyshare.exception.RangeNotSatisfiableException;
 import de.studyshare.studyshare.exception.ResourceNotFoundException;
+import de.studyshare.studyshare.repository.ContentKeysetCursor;
 import de.studyshare.studyshare.repository.ContentRepository;
 import de.studyshare.studyshare.repository.CourseRepository;
 import de.studyshare.studyshare.repository.FacultyRepository;
 import de.studyshare.studyshare.repository.LecturerRepository;
 import de.studyshare.studyshare.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 /**
@@ -48,12 +73,33 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 @Service
 public class ContentService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ContentService.class);
+
+    /**
+     * Largest file accepted in a single upload. Larger ZIP archives are
+     * uploaded in parts through {@link ContentUploadService}.
+     */
+    public static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+    /**
+     * Largest page size accepted when scrolling content summaries.
+     */
+    public static final int MAX_SCROLL_SIZE = 100;
+
+    static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final FacultyRepository facultyRepository;
     private final LecturerRepository lecturerRepository;
     private final AwsService awsService;
+    private final FileCache fileCache;
+    private final ContentCounterBuffer contentCounterBuffer;
+    private final ContentSignalService contentSignalService;
+    private final Executor s3UploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     // S3/MinIO Bucket name from application properties
     @Value("${s3.bucket-name}")
@@ -62,24 +108,43 @@ public class ContentService {
     /**
      * Constructs a ContentService with the specified repositories.
      *
-     * @param contentRepository  the repository to access content data
-     * @param userRepository     the repository to access user data
-     * @param courseRepository   the repository to access course data
-     * @param facultyRepository  the repository to access faculty data
-     * @param lecturerRepository the repository to access lecturer data
+     * @param contentRepository    the repository to access content data
+     * @param userRepository       the repository to access user data
+     * @param courseRepository     the repository to access course data
+     * @param facultyRepository    the repository to access faculty data
+     * @param lecturerRepository   the repository to access lecturer data
+     * @param awsService           the service to access S3
+     * @param fileCache            the local cache for downloaded files
+     * @param contentCounterBuffer the buffer for report and outdated clicks
+     * @param contentSignalService the service recording who reported content
+     * @param s3UploadExecutor     the executor that streams uploads to S3
+     * @param transactionManager   the transaction manager for programmatic
+     *                             transactions around uploads
      */
     public ContentService(ContentRepository contentRepository,
             UserRepository userRepository,
             CourseRepository courseRepository,
             FacultyRepository facultyRepository,
             LecturerRepository lecturerRepository,
-            AwsService awsService) {
+            AwsService awsService,
+            FileCache fileCache,
+            ContentCounterBuffer contentCounterBuffer,
+            ContentSignalService contentSignalService,
+            @Qualifier("s3UploadExecutor") Executor s3UploadExecutor,
+            PlatformTransactionManager transactionManager) {
         this.contentRepository = contentRepository;
         this.userRepository = userRepository;
         this.courseRepository = courseRepository;
         this.facultyRepository = facultyRepository;
         this.lecturerRepository = lecturerRepository;
         this.awsService = awsService;
+        this.fileCache = fileCache;
+        this.contentCounterBuffer = contentCounterBuffer;
+        this.contentSignalService = contentSignalService;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     /**
@@ -111,6 +176,11 @@ public class ContentService {
 
     /**
      * Creates new content with the specified details and file.
+     * The file is streamed to S3 on the upload executor without holding a
+     * database connection. The references are checked in a read-only
+     * transaction before the upload, and the content row is inserted in a
+     * short transaction afterwards. If the insert fails, the uploaded object is
+     * deleted again.
      *
      * @param createRequest the request containing content creation details
      * @param file          the file to be uploaded
@@ -120,29 +190,12 @@ public class ContentService {
      * @throws ResourceNotFoundException if the user, course, or faculty does not
      *                                   exist
      */
-    @Transactional
     public ContentDTO createContent(
             ContentCreateRequest createRequest,
             MultipartFile file) {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
         String currentUsername = authentication.getName();
-        User uploadedByUser = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username",
-                        currentUsername + " (authenticated user not found)"));
-
-        Course course = courseRepository.findById(createRequest.courseId())
-                .orElseThrow(() -> new ResourceNotFoundException("Course", "id", createRequest.courseId()));
-        Faculty faculty = facultyRepository.findById(createRequest.facultyId())
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty", "id", createRequest.facultyId()));
-        Lecturer lecturer = lecturerRepository.findById(createRequest.lecturerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Lecturer", "id", createRequest.lecturerId()));
-
-        if (!course.getFaculty().getId().equals(faculty.getId())) {
-            throw new BadRequestException("The specified course (ID: " + course.getId()
-                    + ") does not belong to the specified faculty (ID: " + faculty.getId() + ").");
-        }
 
         String originalFilenameRaw = file.getOriginalFilename();
         if (originalFilenameRaw == null) {
@@ -153,34 +206,106 @@ public class ContentService {
             throw new BadRequestException("Uploaded file must not be empty.");
         }
 
-        if (file.getSize() > 10 * 1024 * 1024) { // 10 MB limit
+        if (file.getSize() > MAX_FILE_SIZE) {
             throw new BadRequestException("Uploaded file must not exceed 10 MB.");
         }
 
+        Long uploadedByUserId = validateCreateRequest(createRequest, currentUsername);
+
         String originalFilename = StringUtils.cleanPath(originalFilenameRaw);
         String uniqueObjectNameInS3 = UUID.randomUUID().toString() + "_" + originalFilename;
 
-        try {
-            awsService.uploadFile(
+        try (InputStream inputStream = file.getInputStream()) {
+            CompletableFuture.runAsync(() -> awsService.uploadFile(
                     s3BucketName,
                     uniqueObjectNameInS3,
                     file.getSize(),
-                    file.getInputStream());
+                    file.getContentType() != null ? file.getContentType() : DEFAULT_CONTENT_TYPE,
+                    inputStream), s3UploadExecutor).join();
         } catch (IOException e) {
             throw new BadRequestException("Error uploading file to S3: " + e.getMessage());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return saveUploadedContent(createRequest, uploadedByUserId, uniqueObjectNameInS3);
+    }
+
+    /**
+     * Checks that the user, course, faculty and lecturer of a new content exist
+     * and that the course belongs to the faculty. Runs in a read-only
+     * transaction, so no connection is held once it returns.
+     *
+     * @param createRequest   the request containing content creation details
+     * @param currentUsername the username of the uploading user
+     * @return the ID of the uploading user
+     * @throws BadRequestException       if the course does not belong to the
+     *                                   faculty
+     * @throws ResourceNotFoundException if the user, course, faculty or lecturer
+     *                                   does not exist
+     */
+    public Long validateCreateRequest(ContentCreateRequest createRequest, String currentUsername) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            User uploadedByUser = userRepository.findByUsername(currentUsername)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "username",
+                            currentUsername + " (authenticated user not found)"));
+
+            Course course = courseRepository.findById(createRequest.courseId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Course", "id", createRequest.courseId()));
+            Faculty faculty = facultyRepository.findById(createRequest.facultyId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Faculty", "id", createRequest.facultyId()));
+            if (!lecturerRepository.existsById(createRequest.lecturerId())) {
+                throw new ResourceNotFoundException("Lecturer", "id", createRequest.lecturerId());
+            }
+
+            if (!course.getFaculty().getId().equals(faculty.getId())) {
+                throw new BadRequestException("The specified course (ID: " + course.getId()
+                        + ") does not belong to the specified faculty (ID: " + faculty.getId() + ").");
+            }
+            return uploadedByUser.getId();
+        });
+    }
+
+    /**
+     * Inserts the content row for a file that has already been stored in S3.
+     * Runs in its own short transaction. If the insert fails, the object is
+     * deleted from S3 so that no orphaned file is left behind.
+     *
+     * @param createRequest    the request containing content creation details
+     * @param uploadedByUserId the ID of the uploading user
+     * @param objectKeyInS3    the key of the uploaded object in S3
+     * @return the created ContentDTO
+     */
+    public ContentDTO saveUploadedContent(ContentCreateRequest createRequest, Long uploadedByUserId,
+            String objectKeyInS3) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Content content = new Content();
+                content.setUploadedBy(userRepository.getReferenceById(uploadedByUserId));
+                content.setUploadDate(LocalDate.now());
+                content.setContentCategory(createRequest.contentCategory());
+                content.setCourse(courseRepository.getReferenceById(createRequest.courseId()));
+                content.setFaculty(facultyRepository.getReferenceById(createRequest.facultyId()));
+                content.setLecturer(lecturerRepository.getReferenceById(createRequest.lecturerId()));
+                content.setTitle(createRequest.title());
+                content.setFilePath(objectKeyInS3);
+
+                Content savedContent = contentRepository.saveAndFlush(content);
+                return ContentDTO.fromEntity(savedContent);
+            });
+        } catch (RuntimeException e) {
+            // Do not leave an object in S3 that no content row points to.
+            try {
+                awsService.deleteFile(s3BucketName, objectKeyInS3);
+            } catch (S3Exception deleteException) {
+                System.err.println(
+                        "Error deleting orphaned file from S3 '" + objectKeyInS3 + "': " + deleteException);
+            }
+            throw e;
         }
-        Content content = new Content();
-        content.setUploadedBy(uploadedByUser);
-        content.setUploadDate(LocalDate.now());
-        content.setContentCategory(createRequest.contentCategory());
-        content.setCourse(course);
-        content.setFaculty(faculty);
-        content.setLecturer(lecturer);
-        content.setTitle(createRequest.title());
-        content.setFilePath(uniqueObjectNameInS3);
-
-        Content savedContent = contentRepository.save(content);
-        return ContentDTO.fromEntity(savedContent);
     }
 
     /**
@@ -250,42 +375,78 @@ public class ContentService {
                 System.err.println(
                         "Error deleting file from S3 '" + objectKeyInS3 + "': " + e);
             }
+            fileCache.evict(objectKeyInS3);
         }
         contentRepository.delete(content);
     }
 
     /**
-     * Increments the report count for the content with the specified ID.
+     * Records a report of the current user for the content with the specified
+     * ID and increments its report count with a single UPDATE, or in the
+     * {@link ContentCounterBuffer} if buffering is enabled.
      *
      * @param id the ID of the content to increment the report count for
-     * @return the updated ContentDTO
-     * @throws ResourceNotFoundException if the content with the specified ID does
-     *                                   not exist
+     * @return the updated ContentDTO, or null if the report was buffered
+     * @throws ResourceNotFoundException  if the content with the specified ID
+     *                                    does not exist
+     * @throws DuplicateResourceException if the user already reported the
+     *                                    content
      */
     @Transactional
     public ContentDTO incrementReportCount(Long id) {
-        Content content = contentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Content", "id", id));
-        content.setReportedCount(content.getReportedCount() + 1);
-
-        return ContentDTO.fromEntity(contentRepository.save(content));
+        return addSignal(id, ContentSignalType.REPORT);
     }
 
     /**
-     * Increments the outdated count for the content with the specified ID.
+     * Records an outdated mark of the current user for the content with the
+     * specified ID and increments its outdated count with a single UPDATE, or
+     * in the {@link ContentCounterBuffer} if buffering is enabled.
      *
      * @param id the ID of the content to increment the outdated count for
-     * @return the updated ContentDTO
-     * @throws ResourceNotFoundException if the content with the specified ID does
-     *                                   not exist
+     * @return the updated ContentDTO, or null if the mark was buffered
+     * @throws ResourceNotFoundException  if the content with the specified ID
+     *                                    does not exist
+     * @throws DuplicateResourceException if the user already marked the
+     *                                    content as outdated
      */
     @Transactional
     public ContentDTO incrementOutdatedCount(Long id) {
-        Content content = contentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Content", "id", id));
-        content.setOutdatedCount(content.getOutdatedCount() + 1);
+        return addSignal(id, ContentSignalType.OUTDATED);
+    }
 
-        return ContentDTO.fromEntity(contentRepository.save(content));
+    private ContentDTO addSignal(Long id, ContentSignalType signalType) {
+        Long userId = contentSignalService.requireNotGiven(id, signalType);
+        if (contentCounterBuffer.isEnabled()) {
+            requireContent(id);
+            contentSignalService.save(id, signalType, userId);
+            if (signalType == ContentSignalType.REPORT) {
+                contentCounterBuffer.addReport(id);
+            } else {
+                contentCounterBuffer.addOutdatedMark(id);
+            }
+            return null;
+        }
+        int updated = signalType == ContentSignalType.REPORT
+                ? contentRepository.incrementReportedCount(id)
+                : contentRepository.incrementOutdatedCount(id);
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Content", "id", id);
+        }
+        // A duplicate signal rolls back the increment.
+        contentSignalService.save(id, signalType, userId);
+        return findContentDTO(id);
+    }
+
+    private void requireContent(Long id) {
+        if (!contentRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Content", "id", id);
+        }
+    }
+
+    private ContentDTO findContentDTO(Long id) {
+        return contentRepository.findWithAssociationsById(id)
+                .map(ContentDTO::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Content", "id", id));
     }
 
     /**
@@ -322,7 +483,9 @@ public class ContentService {
      * @param lecturerId    the ID of the lecturer to filter by (optional)
      * @param category      the content category to filter by (optional)
      * @param searchTerm    a search term to filter content titles (optional)
-     * @param sortBy        the field to sort by (optional, defaults to uploadDate)
+     * @param sortBy        the field to sort by (optional, defaults to uploadDate);
+     *                      relevance orders by how well titles match the search
+     *                      term, ignoring the direction
      * @param sortDirection the direction of sorting (asc or desc, optional,
      *                      defaults to asc)
      * @param pageable      pagination information
@@ -339,42 +502,425 @@ public class ContentService {
             String sortDirection,
             Pageable pageable) {
 
+        Specification<Content> spec = browseSpecification(
+                facultyId, courseId, lecturerId, category, searchTerm, sortBy);
+
+        Page<Content> contentPage = contentRepository.findAll(spec,
+                browsePageRequest(sortBy, sortDirection, searchTerm, pageable));
+        return contentPage.map(ContentDTO::fromEntity);
+    }
+
+    /**
+     * Retrieves filtered and sorted content summaries based on various criteria.
+     * Takes the same criteria as
+     * {@link #getFilteredAndSortedContents(Long, Long, Long, ContentCategory, String, ContentSortByOptions, String, Pageable)},
+     * but selects only the columns of the summary instead of loading the
+     * content entities and their associations.
+     *
+     * @param facultyId     the ID of the faculty to filter by (optional)
+     * @param courseId      the ID of the course to filter by (optional)
+     * @param lecturerId    the ID of the lecturer to filter by (optional)
+     * @param category      the content category to filter by (optional)
+     * @param searchTerm    a search term to filter content titles (optional)
+     * @param sortBy        the field to sort by (optional, defaults to uploadDate);
+     *                      relevance orders by how well titles match the search
+     *                      term, ignoring the direction
+     * @param sortDirection the direction of sorting (asc or desc, optional,
+     *                      defaults to asc)
+     * @param pageable      pagination information
+     * @return a paginated list of ContentSummaryDTOs matching the criteria
+     */
+    @Transactional
+    public Page<ContentSummaryDTO> getFilteredAndSortedContentSummaries(
+            Long facultyId,
+            Long courseId,
+            Long lecturerId,
+            ContentCategory category,
+            String searchTerm,
+            ContentSortByOptions sortBy,
+            String sortDirection,
+            Pageable pageable) {
+
+        Specification<Content> spec = browseSpecification(
+                facultyId, courseId, lecturerId, category, searchTerm, sortBy);
+
+        return contentRepository.findSummaries(spec, browsePageRequest(sortBy, sortDirection, searchTerm, pageable));
+    }
+
+    /**
+     * Retrieves the next page of filtered content summaries using keyset
+     * pagination. Instead of skipping the rows of previous pages, the query
+     * continues after the last item the client has seen, so deep pages cost the
+     * same as the first one. No total count is computed.
+     *
+     * @param facultyId     the ID of the faculty to filter by (optional)
+     * @param courseId      the ID of the course to filter by (optional)
+     * @param lecturerId    the ID of the lecturer to filter by (optional)
+     * @param category      the content category to filter by (optional)
+     * @param searchTerm    a search term to filter content titles (optional)
+     * @param sortBy        the field to sort by (optional, defaults to uploadDate)
+     * @param sortDirection the direction of sorting (asc or desc, optional,
+     *                      defaults to asc)
+     * @param cursor        the cursor returned with the previous page, or null
+     *                      for the first page
+     * @param size          the number of items per page
+     * @return the content summaries of the page and the cursor of the next page
+     * @throws BadRequestException if the cursor is invalid or was created for a
+     *                             different sort order, the size is not
+     *                             between 1 and {@link #MAX_SCROLL_SIZE}, or
+     *                             relevance order is requested
+     */
+    @Transactional
+    public ContentScrollResponse scrollContentSummaries(
+            Long facultyId,
+            Long courseId,
+            Long lecturerId,
+            ContentCategory category,
+            String searchTerm,
+            ContentSortByOptions sortBy,
+            String sortDirection,
+            String cursor,
+            int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_SCROLL_SIZE + ".");
+        }
+        ContentSortByOptions sortKey = sortBy != null ? sortBy : ContentSortByOptions.uploadDate;
+        if (sortKey == ContentSortByOptions.relevance) {
+            throw new BadRequestException("Sorting by relevance is not supported when scrolling.");
+        }
+        Sort.Direction direction = (sortDirection != null && sortDirection.equalsIgnoreCase("desc"))
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        ContentKeysetCursor after = null;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                after = ContentKeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+            if (after.sortBy() != sortKey || after.direction() != direction) {
+                throw new BadRequestException("Cursor does not match the requested sort order.");
+            }
+        }
+
         Specification<Content> spec = ContentSpecifications.filterBy(
                 facultyId, courseId, lecturerId, category, searchTerm);
 
+        // Fetch one extra row to find out whether there is a next page.
+        List<ContentSummaryDTO> summaries = contentRepository.findSummariesAfter(spec, sortKey, direction, after,
+                size + 1);
+        if (summaries.size() <= size) {
+            return new ContentScrollResponse(summaries, null);
+        }
+        List<ContentSummaryDTO> page = summaries.subList(0, size);
+        String nextCursor = ContentKeysetCursor.after(sortKey, direction, page.get(size - 1)).encode();
+        return new ContentScrollResponse(List.copyOf(page), nextCursor);
+    }
+
+    private static Specification<Content> browseSpecification(Long facultyId, Long courseId, Long lecturerId,
+            ContentCategory category, String searchTerm, ContentSortByOptions sortBy) {
+        Specification<Content> spec = ContentSpecifications.filterBy(
+                facultyId, courseId, lecturerId, category, searchTerm);
+        if (sortBy == ContentSortByOptions.relevance && StringUtils.hasText(searchTerm)) {
+            spec = spec.and(ContentSpecifications.orderByRelevance(searchTerm));
+        }
+        return spec;
+    }
+
+    private static PageRequest browsePageRequest(ContentSortByOptions sortBy, String sortDirection,
+            String searchTerm, Pageable pageable) {
+        if (sortBy == ContentSortByOptions.relevance) {
+            if (StringUtils.hasText(searchTerm)) {
+                // Ordered by the relevance specification.
+                return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            }
+            sortBy = ContentSortByOptions.uploadDate;
+        }
         Sort.Direction direction = (sortDirection != null && sortDirection.equalsIgnoreCase("desc"))
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-        Sort sort = Sort.by(direction, sortBy != null ? sortBy.toString() : "uploadDate");
+        Sort sort = Sort.by(direction,
+                ContentKeysetCursor.attribute(sortBy != null ? sortBy : ContentSortByOptions.uploadDate));
 
-        PageRequest pageRequest = PageRequest.of(
+        return PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
                 sort);
-
-        Page<Content> contentPage = contentRepository.findAll(spec, pageRequest);
-        return contentPage.map(ContentDTO::fromEntity);
     }
 
     /**
-     * Loads a file from S3 as a Resource.
+     * Opens a file stored in S3 for streaming to the client.
+     * The object is not buffered; its size and content type are taken from the
+     * S3 object metadata. Files in the local cache are served from disk;
+     * otherwise byte ranges and conditional requests are forwarded to S3, so
+     * only the bytes the client actually needs are transferred. Failed
+     * If-Match and If-Unmodified-Since preconditions are detected before any
+     * content is opened.
      *
-     * @param objectKeyInS3 the key of the object in S3
-     * @return a Resource representing the file
-     * @throws ResourceNotFoundException if the file does not exist in S3
+     * @param objectKeyInS3     the key of the object in S3
+     * @param rangeHeader       the Range header of the request, or null
+     * @param ifRangeHeader     the If-Range header of the request, or null
+     * @param ifMatchHeader     the If-Match header of the request, or null
+     * @param ifNoneMatch       the If-None-Match header of the request, or null
+     * @param ifUnmodifiedSince the If-Unmodified-Since header of the request
+     *                          in epoch milliseconds, or -1 if absent
+     * @param ifModifiedSince   the If-Modified-Since header of the request in
+     *                          epoch milliseconds, or -1 if absent
+     * @return a FileDownload holding the open object stream and its metadata,
+     *         or a not modified FileDownload if the client's copy is current
+     * @throws ResourceNotFoundException    if the file does not exist in S3
+     * @throws PreconditionFailedException  if the If-Match or
+     *                                      If-Unmodified-Since precondition
+     *                                      fails
+     * @throws RangeNotSatisfiableException if the range lies outside the file
      */
-    public Resource loadFileAsResource(String objectKeyInS3) {
+    public FileDownload openFileDownload(String objectKeyInS3, String rangeHeader, String ifRangeHeader,
+            String ifMatchHeader, String ifNoneMatch, long ifUnmodifiedSince, long ifModifiedSince) {
+        String range = singleByteRange(rangeHeader);
+        String ifMatch = ifMatchHeader != null ? ifMatchHeader.trim() : null;
+        boolean ifMatchFromIfRange = false;
+        if (range != null && ifRangeHeader != null) {
+            // Only a strong ETag can be checked by S3; for anything else the
+            // whole file is sent, which is always a valid answer to If-Range.
+            if (!ifRangeHeader.startsWith("\"")) {
+                range = null;
+            } else if (ifMatch == null) {
+                ifMatch = ifRangeHeader;
+                ifMatchFromIfRange = true;
+            } else if (!ifRangeHeader.equals(ifMatch)) {
+                // If If-Match holds, the object has the If-Match ETag, so
+                // If-Range can only hold if it names the same one.
+                range = null;
+            }
+        }
+        // If-Unmodified-Since is ignored when If-Match is present, and
+        // If-Modified-Since when If-None-Match is present (RFC 9110).
+        Instant unmodifiedSince = ifMatchHeader == null && ifUnmodifiedSince >= 0
+                ? Instant.ofEpochMilli(ifUnmodifiedSince)
+                : null;
+        Instant modifiedSince = ifNoneMatch == null && ifModifiedSince >= 0
+                ? Instant.ofEpochMilli(ifModifiedSince)
+                : null;
+
         try {
-            ByteArrayOutputStream s3Object = awsService.downloadFile(s3BucketName, objectKeyInS3);
-            return new org.springframework.core.io.ByteArrayResource(
-                    s3Object.toByteArray());
+            FileCache.CachedFile cached = fileCache.get(s3BucketName, objectKeyInS3);
+            if (cached != null) {
+                FileDownload download = openCachedFileDownload(objectKeyInS3, cached, range, ifRangeHeader,
+                        ifMatchFromIfRange ? null : ifMatch, ifNoneMatch, unmodifiedSince, modifiedSince);
+                if (download != null) {
+                    return download;
+                }
+            }
+            ResponseInputStream<GetObjectResponse> s3Object = awsService.downloadFile(
+                    s3BucketName, objectKeyInS3, range, ifMatch, ifNoneMatch, unmodifiedSince, modifiedSince);
+            GetObjectResponse metadata = s3Object.response();
+            return new FileDownload(
+                    s3Object,
+                    metadata.contentLength() != null ? metadata.contentLength() : -1,
+                    metadata.contentType() != null ? metadata.contentType() : DEFAULT_CONTENT_TYPE,
+                    originalFilename(objectKeyInS3),
+                    metadata.eTag(),
+                    metadata.lastModified(),
+                    range != null ? metadata.contentRange() : null);
+        } catch (NoSuchKeyException e) {
+            throw new ResourceNotFoundException("File", "key", objectKeyInS3);
         } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return FileDownload.notModified(
+                        responseHeader(e, HttpHeaders.ETAG),
+                        parseHttpDate(responseHeader(e, HttpHeaders.LAST_MODIFIED)));
+            }
+            if (e.statusCode() == HttpStatus.PRECONDITION_FAILED.value() && ifMatchFromIfRange) {
+                // The If-Range validator no longer matches, so send the whole file.
+                return openFileDownload(objectKeyInS3, null, null, null, ifNoneMatch, ifUnmodifiedSince,
+                        ifModifiedSince);
+            }
+            if (e.statusCode() == HttpStatus.PRECONDITION_FAILED.value()) {
+                throw new PreconditionFailedException(
+                        "Precondition failed for file '" + objectKeyInS3 + "'");
+            }
+            if (e.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                throw new RangeNotSatisfiableException(
+                        "Range '" + rangeHeader + "' is not satisfiable for file '" + objectKeyInS3 + "'");
+            }
             throw new RuntimeException(
                     "S3 error while downloading file '" + objectKeyInS3 + "': " + e);
+        }
+    }
+
+    /**
+     * Opens a file from the local cache, evaluating the range and conditional
+     * headers the same way S3 would.
+     *
+     * @param objectKeyInS3   the key of the object in S3
+     * @param cached          the cached copy of the object
+     * @param range           a single byte range as returned by
+     *                        {@link #singleByteRange(String)}, or null
+     * @param ifRangeHeader   the If-Range header of the request, or null
+     * @param ifMatch         the If-Match header of the request, or null
+     * @param ifNoneMatch     the If-None-Match header of the request, or null
+     * @param unmodifiedSince the If-Unmodified-Since time to check, or null
+     * @param modifiedSince   the If-Modified-Since time to check, or null
+     * @return a FileDownload reading from the cached file, or null if the
+     *         file could not be opened, e.g. because it was evicted since the
+     *         lookup, in which case it should be streamed from S3
+     * @throws PreconditionFailedException  if the If-Match or
+     *                                      If-Unmodified-Since precondition
+     *                                      fails
+     * @throws RangeNotSatisfiableException if the range lies outside the file
+     */
+    private FileDownload openCachedFileDownload(String objectKeyInS3, FileCache.CachedFile cached, String range,
+            String ifRangeHeader, String ifMatch, String ifNoneMatch, Instant unmodifiedSince,
+            Instant modifiedSince) {
+        boolean preconditionFailed = ifMatch != null
+                ? !strongETagMatches(ifMatch, cached.eTag())
+                : unmodifiedSince != null && cached.lastModified() != null
+                        && cached.lastModified().getEpochSecond() > unmodifiedSince.getEpochSecond();
+        if (preconditionFailed) {
+            throw new PreconditionFailedException("Precondition failed for file '" + objectKeyInS3 + "'");
+        }
+        boolean notModified = ifNoneMatch != null
+                ? eTagMatches(ifNoneMatch, cached.eTag())
+                : modifiedSince != null && cached.lastModified() != null
+                        && cached.lastModified().getEpochSecond() <= modifiedSince.getEpochSecond();
+        if (notModified) {
+            return FileDownload.notModified(cached.eTag(), cached.lastModified());
+        }
+
+        long start = 0;
+        long length = cached.size();
+        String contentRange = null;
+        if (range != null && (ifRangeHeader == null || ifRangeHeader.equals(cached.eTag()))) {
+            // singleByteRange has already dropped requests for several ranges.
+            HttpRange httpRange = HttpRange.parseRanges(range).get(0);
+            start = httpRange.getRangeStart(cached.size());
+            long end = httpRange.getRangeEnd(cached.size());
+            if (start >= cached.size() || start > end) {
+                throw new RangeNotSatisfiableException(
+                        "Range '" + range + "' is not satisfiable for file '" + objectKeyInS3 + "'");
+            }
+            length = end - start + 1;
+            contentRange = "bytes " + start + "-" + end + "/" + cached.size();
+        }
+
+        try {
+            return new FileDownload(
+                    cached.open(start, length),
+                    length,
+                    cached.contentType() != null ? cached.contentType() : DEFAULT_CONTENT_TYPE,
+                    originalFilename(objectKeyInS3),
+                    cached.eTag(),
+                    cached.lastModified(),
+                    contentRange);
         } catch (IOException e) {
-            throw new RuntimeException(
-                    "Error while converting S3 object to Resource for file '" + objectKeyInS3 + "': " + e);
+            logger.debug("Cached copy of file '{}' could not be opened, serving it from S3: {}", objectKeyInS3,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Checks an If-None-Match header against an ETag using weak comparison.
+     *
+     * @param ifNoneMatch the If-None-Match header of the request
+     * @param eTag        the ETag of the object, or null
+     * @return true if one of the listed tags matches
+     */
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (eTag == null) {
+            return false;
+        }
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks an If-Match header against an ETag using strong comparison, so
+     * weak tags never match.
+     *
+     * @param ifMatch the If-Match header of the request
+     * @param eTag    the ETag of the object, or null
+     * @return true if one of the listed tags matches
+     */
+    private static boolean strongETagMatches(String ifMatch, String eTag) {
+        boolean strong = eTag != null && !eTag.startsWith("W/");
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (strong && tag.equals(eTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Range header if it requests exactly one byte range.
+     * Malformed headers and requests for several ranges are ignored, in which
+     * case the whole file is sent with 200 rather than only the first range.
+     *
+     * @param rangeHeader the Range header of the request, or null
+     * @return the header to forward to S3, or null
+     */
+    private static String singleByteRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return null;
+        }
+        try {
+            return HttpRange.parseRanges(rangeHeader).size() == 1 ? rangeHeader.trim() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a header from the HTTP response behind an S3 error.
+     *
+     * @param e          the S3 exception
+     * @param headerName the name of the header
+     * @return the header value, or null if absent
+     */
+    private static String responseHeader(S3Exception e, String headerName) {
+        if (e.awsErrorDetails() == null || e.awsErrorDetails().sdkHttpResponse() == null) {
+            return null;
+        }
+        return e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(headerName).orElse(null);
+    }
+
+    /**
+     * Parses an HTTP date header value.
+     *
+     * @param value the header value, or null
+     * @return the parsed instant, or null if absent or malformed
+     */
+    private static Instant parseHttpDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
         }
     }
+
+    /**
+     * Strips the UUID prefix added on upload from an S3 object key.
+     *
+     * @param objectKeyInS3 the key of the object in S3
+     * @return the filename the object was originally uploaded with
+     */
+    private static String originalFilename(String objectKeyInS3) {
+        int separator = objectKeyInS3.indexOf('_');
+        return separator == 36 && objectKeyInS3.length() > separator + 1
+                ? objectKeyInS3.substring(separator + 1)
+                : objectKeyInS3;
+    }
 }
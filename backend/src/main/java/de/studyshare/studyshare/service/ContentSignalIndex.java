@@ -0,0 +1,113 @@
+package de.studyshare.studyshare.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import de.studyshare.studyshare.domain.ContentSignalType;
+import de.studyshare.studyshare.repository.ContentSignalRepository;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Remembers which users gave which signal to which content, so repeated
+ * clicks are rejected without a database round trip.
+ * The user IDs of each content item and signal type are kept in a compressed
+ * {@link RoaringBitmap}, loaded from the database on first use. The bitmaps of
+ * the most recently used content items are kept
+ * ({@code content.signals.index.max-contents}).
+ * The index only ever errs towards "not given": signals given through other
+ * nodes are missing until the bitmap is reloaded, and are then caught by the
+ * unique constraint of the signal table instead.
+ */
+@Service
+public class ContentSignalIndex {
+
+    private final ContentSignalRepository contentSignalRepository;
+    private final Map<ContentSignalType, Cache<Long, RoaringBitmap>> bitmaps = new EnumMap<>(ContentSignalType.class);
+
+    @Value("${content.signals.index.max-contents:10000}")
+    private long maxContents = 10000;
+
+    /**
+     * Constructor for ContentSignalIndex.
+     *
+     * @param contentSignalRepository the repository the bitmaps are loaded from
+     */
+    public ContentSignalIndex(ContentSignalRepository contentSignalRepository) {
+        this.contentSignalRepository = contentSignalRepository;
+    }
+
+    /**
+     * Creates one bitmap cache per signal type.
+     */
+    @PostConstruct
+    public void init() {
+        for (ContentSignalType signalType : ContentSignalType.values()) {
+            bitmaps.put(signalType, Caffeine.newBuilder().maximumSize(maxContents).build());
+        }
+    }
+
+    /**
+     * Checks whether a user has given a signal to a content item, loading the
+     * bitmap of the content item if it is not in memory.
+     *
+     * @param contentId  the ID of the content
+     * @param signalType the kind of signal
+     * @param userId     the ID of the user
+     * @return true if the user is known to have given the signal
+     */
+    public boolean contains(Long contentId, ContentSignalType signalType, Long userId) {
+        if (!fitsBitmap(userId)) {
+            return false;
+        }
+        RoaringBitmap users = bitmaps.get(signalType).get(contentId, id -> load(id, signalType));
+        synchronized (users) {
+            return users.contains(userId.intValue());
+        }
+    }
+
+    /**
+     * Records a signal that was stored in the database. Content items whose
+     * bitmap is not in memory are skipped, as loading it will include the
+     * signal.
+     *
+     * @param contentId  the ID of the content
+     * @param signalType the kind of signal
+     * @param userId     the ID of the user
+     */
+    public void add(Long contentId, ContentSignalType signalType, Long userId) {
+        if (!fitsBitmap(userId)) {
+            return;
+        }
+        RoaringBitmap users = bitmaps.get(signalType).getIfPresent(contentId);
+        if (users != null) {
+            synchronized (users) {
+                users.add(userId.intValue());
+            }
+        }
+    }
+
+    private RoaringBitmap load(Long contentId, ContentSignalType signalType) {
+        RoaringBitmap users = new RoaringBitmap();
+        for (Long userId : contentSignalRepository.findUserIds(contentId, signalType)) {
+            if (fitsBitmap(userId)) {
+                users.add(userId.intValue());
+            }
+        }
+        users.runOptimize();
+        return users;
+    }
+
+    /**
+     * RoaringBitmap holds 32-bit values; larger IDs are left to the database.
+     */
+    private static boolean fitsBitmap(Long userId) {
+        return userId != null && userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,111 @@
+package de.studyshare.studyshare.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import de.studyshare.studyshare.domain.ContentSignal;
+import de.studyshare.studyshare.domain.ContentSignalType;
+import de.studyshare.studyshare.exception.DuplicateResourceException;
+import de.studyshare.studyshare.exception.ResourceNotFoundException;
+import de.studyshare.studyshare.repository.ContentRepository;
+import de.studyshare.studyshare.repository.ContentSignalRepository;
+import de.studyshare.studyshare.repository.UserRepository;
+
+/**
+ * Service recording the reports and outdated marks users give to content, at
+ * most one of each kind per user and content item.
+ * Repeated clicks are usually rejected by the in-memory
+ * {@link ContentSignalIndex}; the unique constraint of the signal table
+ * catches the rest. Callers update the counters on the content in the same
+ * transaction, so they match the recorded signals.
+ */
+@Service
+public class ContentSignalService {
+
+    private final ContentSignalRepository contentSignalRepository;
+    private final ContentRepository contentRepository;
+    private final UserRepository userRepository;
+    private final ContentSignalIndex contentSignalIndex;
+
+    /**
+     * Constructor for ContentSignalService.
+     *
+     * @param contentSignalRepository the repository to store signals
+     * @param contentRepository       the repository to reference content
+     * @param userRepository          the repository to look up the current user
+     * @param contentSignalIndex      the in-memory index of given signals
+     */
+    public ContentSignalService(ContentSignalRepository contentSignalRepository,
+            ContentRepository contentRepository,
+            UserRepository userRepository,
+            ContentSignalIndex contentSignalIndex) {
+        this.contentSignalRepository = contentSignalRepository;
+        this.contentRepository = contentRepository;
+        this.userRepository = userRepository;
+        this.contentSignalIndex = contentSignalIndex;
+    }
+
+    /**
+     * Checks that the current user has not given a signal to a content item
+     * yet, as far as the in-memory index knows.
+     *
+     * @param contentId  the ID of the content
+     * @param signalType the kind of signal
+     * @return the ID of the current user
+     * @throws DuplicateResourceException if the user already gave the signal
+     */
+    public Long requireNotGiven(Long contentId, ContentSignalType signalType) {
+        Long userId = currentUserId();
+        if (contentSignalIndex.contains(contentId, signalType, userId)) {
+            throw duplicate(contentId, signalType);
+        }
+        return userId;
+    }
+
+    /**
+     * Stores a signal of a user. Must be called inside the transaction that
+     * updates the counter of the content, which is rolled back if the signal
+     * turns out to be a duplicate.
+     *
+     * @param contentId  the ID of the content
+     * @param signalType the kind of signal
+     * @param userId     the ID of the user giving the signal
+     * @throws DuplicateResourceException if the user already gave the signal
+     */
+    public void save(Long contentId, ContentSignalType signalType, Long userId) {
+        try {
+            contentSignalRepository.saveAndFlush(
+                    new ContentSignal(contentRepository.getReferenceById(contentId), signalType, userId));
+        } catch (DataIntegrityViolationException e) {
+            throw duplicate(contentId, signalType);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contentSignalIndex.add(contentId, signalType, userId);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // Principals built from a JWT know their user ID, so no lookup is needed.
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.id() != null) {
+            return principal.id();
+        }
+        String username = authentication.getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username))
+                .getId();
+    }
+
+    private static DuplicateResourceException duplicate(Long contentId, ContentSignalType signalType) {
+        return new DuplicateResourceException(signalType == ContentSignalType.REPORT
+                ? "You have already reported content " + contentId + "."
+                : "You have already marked content " + contentId + " as outdated.");
+    }
+}
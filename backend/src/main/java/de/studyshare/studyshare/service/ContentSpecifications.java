@@ -1,25 +1,36 @@
 package de.studyshare.studyshare.service;
 
+import de.studyshare.studyshare.config.FullTextFunctionContributor;
 import de.studyshare.studyshare.domain.Content;
 import de.studyshare.studyshare.domain.ContentCategory;
-import de.studyshare.studyshare.domain.Course;
-import de.studyshare.studyshare.domain.Faculty;
-import de.studyshare.studyshare.domain.Lecturer;
-import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
 
 /**
  * Specification class for filtering Content entities based on various criteria.
  * Provides methods to create dynamic queries for content filtering.
+ * Title searches use the FULLTEXT index created in {@code import.sql}.
  */
 @Component
 public class ContentSpecifications {
 
+    /**
+     * Shortest word InnoDB adds to a FULLTEXT index (innodb_ft_min_token_size).
+     */
+    static final int MIN_FULLTEXT_WORD_LENGTH = 3;
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     /**
      * Creates a Specification to filter Content entities based on the provided
      * criteria.
@@ -28,7 +39,9 @@ public class ContentSpecifications {
      * @param courseId   the ID of the course to filter by (optional)
      * @param lecturerId the ID of the lecturer to filter by (optional)
      * @param category   the content category to filter by (optional)
-     * @param searchTerm a search term to filter content titles (optional)
+     * @param searchTerm a search term to filter content titles by; every word
+     *                   must occur in the title, matched as a word prefix
+     *                   (optional)
      * @return a Specification for filtering Content entities
      */
     public static Specification<Content> filterBy(
@@ -40,28 +53,106 @@ public class ContentSpecifications {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
+            // Comparing the foreign key columns directly keeps the count query free of joins.
             if (facultyId != null) {
-                Join<Content, Faculty> facultyJoin = root.join("faculty");
-                predicates.add(criteriaBuilder.equal(facultyJoin.get("id"), facultyId));
+                predicates.add(criteriaBuilder.equal(root.get("faculty").get("id"), facultyId));
             }
             if (courseId != null) {
-                Join<Content, Course> courseJoin = root.join("course");
-                predicates.add(criteriaBuilder.equal(courseJoin.get("id"), courseId));
+                predicates.add(criteriaBuilder.equal(root.get("course").get("id"), courseId));
             }
             if (lecturerId != null) {
-                Join<Content, Lecturer> lecturerJoin = root.join("lecturer");
-                predicates.add(criteriaBuilder.equal(lecturerJoin.get("id"), lecturerId));
+                predicates.add(criteriaBuilder.equal(root.get("lecturer").get("id"), lecturerId));
             }
             if (category != null) {
                 predicates.add(criteriaBuilder.equal(root.get("contentCategory"), category));
             }
             if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-                String likePattern = "%" + searchTerm.toLowerCase() + "%";
-                predicates.add(criteriaBuilder.or(
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), likePattern)));
+                predicates.add(titleMatches(root, criteriaBuilder, searchTerm));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Creates a Specification that orders Content entities by the relevance of
+     * their title to a search term, most relevant first, with ties broken by
+     * ID. It adds no restriction, so it is combined with
+     * {@link #filterBy(Long, Long, Long, ContentCategory, String)}, and only
+     * takes effect if the query is not sorted otherwise.
+     *
+     * @param searchTerm the search term the titles were matched against
+     * @return a Specification ordering Content entities by relevance
+     */
+    public static Specification<Content> orderByRelevance(String searchTerm) {
+        return (root, query, criteriaBuilder) -> {
+            String booleanQuery = toBooleanQuery(searchTerm);
+            if (booleanQuery != null && query.getResultType() != Long.class) {
+                query.orderBy(
+                        criteriaBuilder.desc(matchAgainst(root, criteriaBuilder, booleanQuery)),
+                        criteriaBuilder.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Matches titles containing every word of the search term. Words of at
+     * least {@link #MIN_FULLTEXT_WORD_LENGTH} characters are looked up as
+     * prefixes in the FULLTEXT index; shorter words are not indexed by InnoDB
+     * and are matched with LIKE instead.
+     */
+    private static Predicate titleMatches(Root<Content> root, CriteriaBuilder criteriaBuilder, String searchTerm) {
+        List<Predicate> predicates = new ArrayList<>();
+        String booleanQuery = toBooleanQuery(searchTerm);
+        if (booleanQuery != null) {
+            predicates.add(criteriaBuilder.greaterThan(matchAgainst(root, criteriaBuilder, booleanQuery), 0.0));
+        }
+        for (String word : words(searchTerm)) {
+            if (word.length() < MIN_FULLTEXT_WORD_LENGTH) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + word + "%"));
+            }
+        }
+        if (predicates.isEmpty()) {
+            // Only punctuation, which the old LIKE search matched literally.
+            String likePattern = "%" + searchTerm.trim().toLowerCase() + "%";
+            return criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), likePattern);
+        }
+        return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private static Expression<Double> matchAgainst(Root<Content> root, CriteriaBuilder criteriaBuilder,
+            String booleanQuery) {
+        return criteriaBuilder.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                root.get("title"), criteriaBuilder.literal(booleanQuery));
+    }
+
+    /**
+     * Converts a search term into a MariaDB boolean mode query that requires
+     * every indexed word as a prefix, e.g. {@code "java basi"} becomes
+     * {@code "+java* +basi*"}. Boolean mode operators typed by the user are
+     * dropped with the other punctuation.
+     *
+     * @param searchTerm the search term entered by the user
+     * @return the boolean mode query, or null if no word is long enough to be
+     *         indexed
+     */
+    static String toBooleanQuery(String searchTerm) {
+        StringJoiner query = new StringJoiner(" ");
+        for (String word : words(searchTerm)) {
+            if (word.length() >= MIN_FULLTEXT_WORD_LENGTH) {
+                query.add("+" + word + "*");
+            }
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    private static List<String> words(String searchTerm) {
+        if (searchTerm == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD_CHARACTERS.split(searchTerm.toLowerCase()))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,341 @@
+package de.studyshare.studyshare.service;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.UploadSession;
+import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.UploadSessionDTO;
+import de.studyshare.studyshare.dto.request.ContentCreateRequest;
+import de.studyshare.studyshare.dto.request.UploadSessionCreateRequest;
+import de.studyshare.studyshare.exception.BadRequestException;
+import de.studyshare.studyshare.exception.DuplicateResourceException;
+import de.studyshare.studyshare.exception.ResourceNotFoundException;
+import de.studyshare.studyshare.repository.UploadSessionRepository;
+import de.studyshare.studyshare.repository.UserRepository;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Service for chunked uploads of large files through the S3 multipart API.
+ * The client announces the file, uploads its parts (in parallel if it likes)
+ * and completes the upload, which creates the content. S3 keeps track of the
+ * received parts, so an interrupted upload can be resumed by asking which parts
+ * are still missing. Parts are streamed straight to S3, so memory use does not
+ * depend on the file size.
+ */
+@Service
+public class ContentUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentUploadService.class);
+
+    /**
+     * Smallest part size S3 accepts for all parts but the last.
+     */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * Largest number of parts S3 accepts for one upload.
+     */
+    private static final int MAX_PART_COUNT = 10000;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UserRepository userRepository;
+    private final ContentService contentService;
+    private final AwsService awsService;
+
+    @Value("${s3.bucket-name}")
+    private String s3BucketName;
+
+    @Value("${s3.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    @Value("${s3.multipart.max-file-size:2GB}")
+    private DataSize maxFileSize;
+
+    @Value("${s3.multipart.session-ttl:24h}")
+    private Duration sessionTtl;
+
+    @Value("${spring.profiles.active:}")
+    private String activeProfiles;
+
+    /**
+     * Constructor for ContentUploadService.
+     *
+     * @param uploadSessionRepository the repository to access upload sessions
+     * @param userRepository          the repository to access user data
+     * @param contentService          the service that validates and creates
+     *                                content
+     * @param awsService              the service to access S3
+     */
+    public ContentUploadService(UploadSessionRepository uploadSessionRepository,
+            UserRepository userRepository,
+            ContentService contentService,
+            AwsService awsService) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.userRepository = userRepository;
+        this.contentService = contentService;
+        this.awsService = awsService;
+    }
+
+    /**
+     * Starts a chunked upload for the current user.
+     * Files larger than the single upload limit are only accepted as ZIP
+     * archives.
+     *
+     * @param createRequest the request describing the file and the content
+     * @return the new upload session, telling the client how to split the file
+     * @throws BadRequestException       if the file is too large or the course
+     *                                   does not belong to the faculty
+     * @throws ResourceNotFoundException if the user, course, faculty or lecturer
+     *                                   does not exist
+     */
+    public UploadSessionDTO createUploadSession(UploadSessionCreateRequest createRequest) {
+        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        if (createRequest.fileSize() > ContentService.MAX_FILE_SIZE
+                && createRequest.contentCategory() != ContentCategory.ZIP) {
+            throw new BadRequestException("Only ZIP archives may exceed 10 MB.");
+        }
+        if (createRequest.fileSize() > maxFileSize.toBytes()) {
+            throw new BadRequestException("Uploaded file must not exceed " + maxFileSize.toMegabytes() + " MB.");
+        }
+
+        Long uploadedByUserId = contentService.validateCreateRequest(toContentCreateRequest(createRequest),
+                currentUsername);
+
+        String originalFilename = StringUtils.cleanPath(createRequest.filename());
+        String uniqueObjectNameInS3 = UUID.randomUUID().toString() + "_" + originalFilename;
+        String contentType = createRequest.contentType() != null
+                ? createRequest.contentType()
+                : ContentService.DEFAULT_CONTENT_TYPE;
+        String s3UploadId = awsService.createMultipartUpload(s3BucketName, uniqueObjectNameInS3, contentType);
+
+        UploadSession session = new UploadSession();
+        session.setS3UploadId(s3UploadId);
+        session.setObjectKey(uniqueObjectNameInS3);
+        session.setUploadedBy(userRepository.getReferenceById(uploadedByUserId));
+        session.setContentCategory(createRequest.contentCategory());
+        session.setCourseId(createRequest.courseId());
+        session.setLecturerId(createRequest.lecturerId());
+        session.setFacultyId(createRequest.facultyId());
+        session.setTitle(createRequest.title());
+        session.setFileSize(createRequest.fileSize());
+        // S3 allows at most 10000 parts, so very large files need larger parts.
+        session.setPartSize(Math.max(Math.max(partSize.toBytes(), MIN_PART_SIZE),
+                (createRequest.fileSize() + MAX_PART_COUNT - 1) / MAX_PART_COUNT));
+
+        try {
+            return UploadSessionDTO.fromEntity(uploadSessionRepository.save(session), List.of());
+        } catch (RuntimeException e) {
+            abortQuietly(session);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the state of an upload of the current user, including the parts
+     * S3 has already received.
+     *
+     * @param sessionId the ID of the upload session
+     * @return the upload session
+     * @throws ResourceNotFoundException if the session does not exist or belongs
+     *                                   to another user
+     */
+    public UploadSessionDTO getUploadSession(Long sessionId) {
+        UploadSession session = findOwnSession(sessionId);
+        List<Integer> uploadedParts = awsService
+                .listParts(s3BucketName, session.getObjectKey(), session.getS3UploadId()).stream()
+                .map(Part::partNumber)
+                .toList();
+        return UploadSessionDTO.fromEntity(session, uploadedParts);
+    }
+
+    /**
+     * Streams one part of an upload of the current user to S3. Uploading the
+     * same part again replaces it.
+     *
+     * @param sessionId   the ID of the upload session
+     * @param partNumber  the number of the part, starting at 1
+     * @param partSize    the size of the part in bytes, from the Content-Length
+     *                    header
+     * @param inputStream the body of the request
+     * @throws BadRequestException       if the part number or size does not
+     *                                   match the session
+     * @throws ResourceNotFoundException if the session does not exist or belongs
+     *                                   to another user
+     */
+    public void uploadPart(Long sessionId, int partNumber, long partSize, InputStream inputStream) {
+        UploadSession session = findOwnSession(sessionId);
+
+        if (partNumber < 1 || partNumber > session.getPartCount()) {
+            throw new BadRequestException("Part number must be between 1 and " + session.getPartCount() + ".");
+        }
+        long expectedPartSize = session.getExpectedPartSize(partNumber);
+        if (partSize != expectedPartSize) {
+            throw new BadRequestException(
+                    "Part " + partNumber + " must be exactly " + expectedPartSize + " bytes long.");
+        }
+
+        awsService.uploadPart(s3BucketName, session.getObjectKey(), session.getS3UploadId(), partNumber,
+                partSize, inputStream);
+    }
+
+    /**
+     * Completes an upload of the current user and creates its content.
+     * The session is claimed before S3 is asked to complete the upload, so of
+     * several concurrent completions only one creates content.
+     *
+     * @param sessionId the ID of the upload session
+     * @return the created ContentDTO
+     * @throws BadRequestException         if parts are still missing
+     * @throws DuplicateResourceException  if another request is already
+     *                                     completing the upload
+     * @throws ResourceNotFoundException   if the session does not exist or
+     *                                     belongs to another user, its S3 upload
+     *                                     was already completed or aborted, or
+     *                                     the course, faculty or lecturer no
+     *                                     longer exists
+     */
+    public ContentDTO completeUpload(Long sessionId) {
+        UploadSession session = findOwnSession(sessionId);
+        // The course, faculty or lecturer may have been deleted since the upload started.
+        ContentCreateRequest contentCreateRequest = toContentCreateRequest(session);
+        Long uploadedByUserId = contentService.validateCreateRequest(contentCreateRequest,
+                SecurityContextHolder.getContext().getAuthentication().getName());
+
+        List<Part> parts;
+        try {
+            parts = awsService.listParts(s3BucketName, session.getObjectKey(), session.getS3UploadId());
+        } catch (NoSuchUploadException e) {
+            throw new ResourceNotFoundException("UploadSession", "id", sessionId);
+        }
+        List<Integer> missingParts = new ArrayList<>();
+        List<CompletedPart> completedParts = new ArrayList<>();
+        int next = 0;
+        for (int partNumber = 1; partNumber <= session.getPartCount(); partNumber++) {
+            Part part = next < parts.size() ? parts.get(next) : null;
+            if (part != null && part.partNumber() == partNumber
+                    && part.size() == session.getExpectedPartSize(partNumber)) {
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(part.eTag()).build());
+                next++;
+            } else {
+                if (part != null && part.partNumber() == partNumber) {
+                    next++;
+                }
+                missingParts.add(partNumber);
+            }
+        }
+        if (!missingParts.isEmpty()) {
+            throw new BadRequestException("Upload is incomplete, missing parts: " + missingParts);
+        }
+
+        if (uploadSessionRepository.claimForCompletion(session.getId()) == 0) {
+            throw new DuplicateResourceException("Upload session " + sessionId + " is already being completed.");
+        }
+        try {
+            awsService.completeMultipartUpload(s3BucketName, session.getObjectKey(), session.getS3UploadId(),
+                    completedParts);
+        } catch (NoSuchUploadException e) {
+            // Aborted in the meantime, e.g. by the stale upload cleanup.
+            uploadSessionRepository.delete(session);
+            throw new ResourceNotFoundException("UploadSession", "id", sessionId);
+        } catch (RuntimeException e) {
+            uploadSessionRepository.releaseCompletionClaim(session.getId());
+            throw e;
+        }
+        try {
+            return contentService.saveUploadedContent(contentCreateRequest, uploadedByUserId,
+                    session.getObjectKey());
+        } finally {
+            uploadSessionRepository.delete(session);
+        }
+    }
+
+    /**
+     * Aborts an upload of the current user and discards its parts.
+     *
+     * @param sessionId the ID of the upload session
+     * @throws ResourceNotFoundException if the session does not exist or belongs
+     *                                   to another user
+     */
+    public void abortUpload(Long sessionId) {
+        UploadSession session = findOwnSession(sessionId);
+        abortQuietly(session);
+        uploadSessionRepository.delete(session);
+    }
+
+    /**
+     * Periodically aborts uploads that were started but never completed, so
+     * their parts do not keep occupying storage.
+     * Runs every hour in production, but skips execution during tests.
+     */
+    @Scheduled(fixedRate = 3600000) // 3600000 ms = 1 hour
+    public void abortStaleUploads() {
+        if (activeProfiles != null && (activeProfiles.contains("test") || activeProfiles.contains("junit"))) {
+            logger.debug("Skipping stale upload cleanup during test execution (active profiles: {})",
+                    activeProfiles);
+            return;
+        }
+
+        List<UploadSession> staleSessions = uploadSessionRepository
+                .findByCreatedAtBefore(Instant.now().minus(sessionTtl));
+        for (UploadSession session : staleSessions) {
+            abortQuietly(session);
+            uploadSessionRepository.delete(session);
+        }
+        if (!staleSessions.isEmpty()) {
+            logger.info("Aborted {} stale uploads.", staleSessions.size());
+        }
+    }
+
+    private UploadSession findOwnSession(Long sessionId) {
+        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        return uploadSessionRepository.findByIdAndUploadedByUsername(sessionId, currentUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("UploadSession", "id", sessionId));
+    }
+
+    private void abortQuietly(UploadSession session) {
+        try {
+            awsService.abortMultipartUpload(s3BucketName, session.getObjectKey(), session.getS3UploadId());
+        } catch (NoSuchUploadException e) {
+            // Already completed or aborted.
+        } catch (S3Exception e) {
+            logger.warn("Could not abort multipart upload of '{}': {}", session.getObjectKey(), e.getMessage());
+        }
+    }
+
+    private static ContentCreateRequest toContentCreateRequest(UploadSessionCreateRequest createRequest) {
+        return new ContentCreateRequest(
+                createRequest.contentCategory(),
+                createRequest.courseId(),
+                createRequest.lecturerId(),
+                createRequest.facultyId(),
+                createRequest.title());
+    }
+
+    private static ContentCreateRequest toContentCreateRequest(UploadSession session) {
+        return new ContentCreateRequest(
+                session.getContentCategory(),
+                session.getCourseId(),
+                session.getLecturerId(),
+                session.getFacultyId(),
+                session.getTitle());
+    }
+}
@@ -2,11 +2,13 @@ package de.studyshare.studyshare.service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import de.studyshare.studyshare.domain.CatalogEntityType;
 import de.studyshare.studyshare.domain.Course;
 import de.studyshare.studyshare.domain.Faculty;
 import de.studyshare.studyshare.domain.Lecturer;
@@ -24,6 +26,7 @@ import jakarta.transaction.Transactional;
 /**
  * Service class for managing courses in the study share application.
  * Provides methods to create, update, delete, and retrieve courses.
+ * Courses are read from the {@link CatalogCache}, which changes invalidate.
  */
 @Service
 public class CourseService {
@@ -31,6 +34,7 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final FacultyRepository facultyRepository;
     private final LecturerRepository lecturerRepository;
+    private final CatalogCache catalogCache;
 
     /**
      * Constructs a CourseService with the specified repositories.
@@ -38,13 +42,16 @@ public class CourseService {
      * @param courseRepository   the repository to access course data
      * @param facultyRepository  the repository to access faculty data
      * @param lecturerRepository the repository to access lecturer data
+     * @param catalogCache       the cache courses are read from
      */
     public CourseService(CourseRepository courseRepository,
             FacultyRepository facultyRepository,
-            LecturerRepository lecturerRepository) {
+            LecturerRepository lecturerRepository,
+            CatalogCache catalogCache) {
         this.courseRepository = courseRepository;
         this.facultyRepository = facultyRepository;
         this.lecturerRepository = lecturerRepository;
+        this.catalogCache = catalogCache;
     }
 
     /**
@@ -52,11 +59,8 @@ public class CourseService {
      *
      * @return a list of CourseDTO objects representing all courses
      */
-    @Transactional
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll().stream()
-                .map(CourseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return catalogCache.snapshot().courses();
     }
 
     /**
@@ -67,11 +71,12 @@ public class CourseService {
      * @throws ResourceNotFoundException if the course with the specified ID does
      *                                   not exist
      */
-    @Transactional
     public CourseDTO getCourseById(Long id) {
-        return courseRepository.findById(id)
-                .map(CourseDTO::fromEntity)
-                .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
+        CourseDTO course = catalogCache.snapshot().courseMap().get(id);
+        if (course == null) {
+            throw new ResourceNotFoundException("Course", "id", id);
+        }
+        return course;
     }
 
     /**
@@ -110,6 +115,9 @@ public class CourseService {
         }
 
         Course savedCourse = courseRepository.save(course);
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.COURSE, List.of(savedCourse.getId()),
+                CatalogEntityType.LECTURER, lecturerIds(savedCourse)));
         return CourseDTO.fromEntity(savedCourse);
     }
 
@@ -129,6 +137,7 @@ public class CourseService {
         //Safety checks
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
+        Set<Long> affectedLecturerIds = new HashSet<>(lecturerIds(course));
 
         //setting the Name
         if (updateRequest.name() != null) {
@@ -176,6 +185,10 @@ public class CourseService {
         }
 
         Course updatedCourse = courseRepository.save(course);
+        affectedLecturerIds.addAll(lecturerIds(updatedCourse));
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.COURSE, List.of(id),
+                CatalogEntityType.LECTURER, affectedLecturerIds));
         return CourseDTO.fromEntity(updatedCourse);
     }
 
@@ -191,9 +204,13 @@ public class CourseService {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
 
+        List<Long> affectedLecturerIds = lecturerIds(course);
         new HashSet<>(course.getLecturers()).forEach(course::removeLecturer);
 
         courseRepository.delete(course);
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.COURSE, List.of(id),
+                CatalogEntityType.LECTURER, affectedLecturerIds));
     }
 
     /**
@@ -222,7 +239,11 @@ public class CourseService {
 
         //adding the lecturer
         course.addLecturer(lecturer);
-        return CourseDTO.fromEntity(courseRepository.save(course));
+        Course updatedCourse = courseRepository.save(course);
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.COURSE, List.of(courseId),
+                CatalogEntityType.LECTURER, List.of(lecturerId)));
+        return CourseDTO.fromEntity(updatedCourse);
     }
 
     /**
@@ -252,6 +273,18 @@ public class CourseService {
         //removing the lectuere
         course.removeLecturer(lecturer);
         lecturerRepository.save(lecturer);
-        return CourseDTO.fromEntity(courseRepository.save(course));
+        Course updatedCourse = courseRepository.save(course);
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.COURSE, List.of(courseId),
+                CatalogEntityType.LECTURER, List.of(lecturerId)));
+        return CourseDTO.fromEntity(updatedCourse);
+    }
+
+    /**
+     * The lecturers of a course list the course's ID, so they change with the
+     * course's assignments.
+     */
+    private static List<Long> lecturerIds(Course course) {
+        return course.getLecturers().stream().map(Lecturer::getId).toList();
     }
 }
@@ -0,0 +1,111 @@
+package de.studyshare.studyshare.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import de.studyshare.studyshare.domain.BlocklistedToken;
+import de.studyshare.studyshare.repository.BlocklistedTokenRepository;
+
+/**
+ * Default {@link BlocklistSyncChannel}: the row in the blocklist table is the
+ * message. Every node polls the table for entries created since the newest
+ * one it has seen, so all nodes learn about a blocklisted JTI within one poll
+ * interval ({@code jwt.blocklist.sync-interval-ms}).
+ * Creation times come from the database clock, so nodes with skewed clocks
+ * agree on them. Each poll looks back a little further than the newest entry
+ * seen, because a transaction that started earlier may commit later.
+ */
+@Service
+public class DatabaseBlocklistSyncChannel implements BlocklistSyncChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseBlocklistSyncChannel.class);
+
+    /**
+     * How far each poll looks back before the newest entry seen, to pick up
+     * blocklistings that committed out of order.
+     */
+    static final Duration LOOKBACK = Duration.ofMinutes(1);
+
+    private final BlocklistedTokenRepository blocklistedTokenRepository;
+    private final List<BiConsumer<String, Instant>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creation time of the newest entry seen, or null before the first poll.
+     */
+    private Instant newestSeen;
+
+    @Value("${spring.profiles.active:}")
+    private String activeProfiles;
+
+    /**
+     * Constructor for DatabaseBlocklistSyncChannel.
+     *
+     * @param blocklistedTokenRepository Repository for accessing blocklisted
+     *                                   tokens.
+     */
+    public DatabaseBlocklistSyncChannel(BlocklistedTokenRepository blocklistedTokenRepository) {
+        this.blocklistedTokenRepository = blocklistedTokenRepository;
+    }
+
+    /**
+     * Does nothing, as the other nodes find the new row when they poll.
+     */
+    @Override
+    public void publish(String jti, Instant expiryDate) {
+        // The blocklist table is the channel.
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Instant> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Periodically polls the blocklist table for new entries.
+     * Runs every few seconds in production, but skips execution during tests,
+     * which call {@link #poll()} directly.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blocklist.sync-interval-ms:5000}")
+    public void scheduledPoll() {
+        if (activeProfiles != null && (activeProfiles.contains("test") || activeProfiles.contains("junit"))) {
+            logger.debug("Skipping blocklist synchronization during test execution (active profiles: {})",
+                    activeProfiles);
+            return;
+        }
+        poll();
+    }
+
+    /**
+     * Hands the entries created since the last poll to the listeners. The
+     * first poll hands over every unexpired entry.
+     *
+     * @return the number of entries handed over
+     */
+    public synchronized int poll() {
+        List<BlocklistedToken> tokens = newestSeen == null
+                ? blocklistedTokenRepository.findByExpiryDateAfter(Instant.now())
+                : blocklistedTokenRepository.findByCreatedAtAfter(newestSeen.minus(LOOKBACK));
+        for (BlocklistedToken token : tokens) {
+            for (BiConsumer<String, Instant> listener : listeners) {
+                listener.accept(token.getJti(), token.getExpiryDate());
+            }
+            if (newestSeen == null || token.getCreatedAt().isAfter(newestSeen)) {
+                newestSeen = token.getCreatedAt();
+            }
+        }
+        if (newestSeen == null) {
+            // Nothing blocklisted yet; start from the epoch so the next poll is incremental.
+            newestSeen = Instant.EPOCH.plus(LOOKBACK);
+        }
+        return tokens.size();
+    }
+}
@@ -1,10 +1,12 @@
 package de.studyshare.studyshare.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import de.studyshare.studyshare.domain.CatalogEntityType;
+import de.studyshare.studyshare.domain.Course;
 import de.studyshare.studyshare.domain.Faculty;
 import de.studyshare.studyshare.dto.entity.FacultyDTO;
 import de.studyshare.studyshare.dto.request.FacultyCreateRequest;
@@ -19,6 +21,7 @@ import jakarta.transaction.Transactional;
  * Service class for managing faculties.
  * Provides methods to perform CRUD operations on faculties and their associated
  * courses.
+ * Faculties are read from the {@link CatalogCache}, which changes invalidate.
  */
 @Service
 public class FacultyService {
@@ -26,6 +29,7 @@ public class FacultyService {
     private final FacultyRepository facultyRepository;
     private final CourseRepository courseRepository;
     private final CourseService courseService;
+    private final CatalogCache catalogCache;
 
     /**
      * Constructs a FacultyService with the specified repositories.
@@ -33,12 +37,14 @@ public class FacultyService {
      * @param facultyRepository the repository for managing faculties
      * @param courseRepository  the repository for managing courses
      * @param courseService     the service for managing courses
+     * @param catalogCache      the cache faculties are read from
      */
     public FacultyService(FacultyRepository facultyRepository, CourseRepository courseRepository,
-            CourseService courseService) {
+            CourseService courseService, CatalogCache catalogCache) {
         this.facultyRepository = facultyRepository;
         this.courseRepository = courseRepository;
         this.courseService = courseService;
+        this.catalogCache = catalogCache;
     }
 
     /**
@@ -46,12 +52,8 @@ public class FacultyService {
      *
      * @return a list of FacultyDTO objects representing all faculties
      */
-    @Transactional
     public List<FacultyDTO> getAllFaculties() {
-        return facultyRepository.findAll()
-                .stream()
-                .map(FacultyDTO::fromEntity)
-                .collect(Collectors.toList());
+        return catalogCache.snapshot().faculties();
     }
 
     /**
@@ -61,11 +63,12 @@ public class FacultyService {
      * @return a FacultyDTO object representing the faculty with the specified ID
      * @throws ResourceNotFoundException if no faculty with the specified ID exists
      */
-    @Transactional
     public FacultyDTO getFacultyById(Long id) {
-        return facultyRepository.findById(id)
-                .map(FacultyDTO::fromEntity)
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty", "id", id));
+        FacultyDTO faculty = catalogCache.snapshot().facultyMap().get(id);
+        if (faculty == null) {
+            throw new ResourceNotFoundException("Faculty", "id", id);
+        }
+        return faculty;
     }
 
     /**
@@ -83,6 +86,7 @@ public class FacultyService {
         }
         Faculty faculty = new Faculty(createRequest.name());
         Faculty savedFaculty = facultyRepository.save(faculty);
+        catalogCache.recordChange(CatalogEntityType.FACULTY, savedFaculty.getId());
         return FacultyDTO.fromEntity(savedFaculty);
     }
 
@@ -107,6 +111,11 @@ public class FacultyService {
         }
         faculty.setName(updateRequest.name());
         Faculty updatedFaculty = facultyRepository.save(faculty);
+        // Courses include their faculty, so they change with its name.
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.FACULTY, List.of(id),
+                CatalogEntityType.COURSE,
+                courseRepository.findAllByFacultyId(id).stream().map(Course::getId).toList()));
         return FacultyDTO.fromEntity(updatedFaculty);
     }
 
@@ -126,5 +135,6 @@ public class FacultyService {
                     .forEach(course -> courseService.deleteCourse(course.getId()));
         }
         facultyRepository.delete(faculty);
+        catalogCache.recordChange(CatalogEntityType.FACULTY, id);
     }
 }
@@ -0,0 +1,487 @@
+package de.studyshare.studyshare.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Read-through cache that keeps recently downloaded S3 objects on local disk.
+ * Entries are keyed by the S3 object key, which never changes for a stored
+ * file, and are evicted in least recently used order once the configured size
+ * budget is exceeded. Concurrent misses for the same key share a single S3
+ * download.
+ * The size of an object is checked with a HEAD request before it is
+ * downloaded, and keys of objects too large to cache are remembered, so their
+ * downloads go straight to S3. Entries older than the revalidation interval
+ * are checked against S3 with a HEAD request before they are served, so files
+ * deleted through another instance stop being served from this one.
+ * The cache index lives in memory only, so cached files are removed on startup
+ * and shutdown.
+ */
+@Service
+public class FileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileCache.class);
+    private static final String FILE_PREFIX = "object-";
+
+    private final AwsService awsService;
+    private final MeterRegistry meterRegistry;
+
+    // Access ordered, so iteration starts at the least recently used entry.
+    // Guarded by this.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentSizeBytes;
+    private final Map<String, CompletableFuture<CachedFile>> loading = new ConcurrentHashMap<>();
+    // Keys of objects larger than maxFileSize; the content of a key never changes.
+    private final Cache<String, Boolean> uncacheable = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @Value("${s3.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${s3.cache.directory:${java.io.tmpdir}/studyshare-file-cache}")
+    private Path directory;
+
+    @Value("${s3.cache.max-size:512MB}")
+    private DataSize maxSize;
+
+    @Value("${s3.cache.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @Value("${s3.cache.revalidate-after:1m}")
+    private Duration revalidateAfter;
+
+    /**
+     * Constructor for FileCache.
+     *
+     * @param awsService    the service used to download objects on a miss
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public FileCache(AwsService awsService, MeterRegistry meterRegistry) {
+        this.awsService = awsService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Prepares the cache directory, removes files left over from a previous run
+     * and registers the cache metrics.
+     *
+     * @throws IOException if the cache directory cannot be created
+     */
+    @PostConstruct
+    public void initialize() throws IOException {
+        hits = Counter.builder("studyshare.file.cache.requests")
+                .description("Download requests served by the local file cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("studyshare.file.cache.requests")
+                .description("Download requests served by the local file cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        evictions = Counter.builder("studyshare.file.cache.evictions")
+                .description("Files evicted from the local file cache to stay within its size budget")
+                .register(meterRegistry);
+        Gauge.builder("studyshare.file.cache.size", this, FileCache::currentSizeBytes)
+                .description("Bytes currently stored in the local file cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("studyshare.file.cache.entries", this, FileCache::entryCount)
+                .description("Files currently stored in the local file cache")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            logger.info("Local file cache is disabled.");
+            return;
+        }
+        Files.createDirectories(directory);
+        deleteCachedFiles();
+        logger.info("Local file cache at {} with a budget of {} bytes.", directory, maxSize.toBytes());
+    }
+
+    /**
+     * Removes all cached files when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (enabled) {
+            synchronized (this) {
+                entries.clear();
+                currentSizeBytes = 0;
+            }
+            deleteCachedFiles();
+        }
+    }
+
+    /**
+     * Returns the cached copy of an object, downloading it from S3 first if it
+     * is not cached yet.
+     *
+     * @param bucketName the name of the S3 bucket
+     * @param objectKey  the key of the object in S3
+     * @return the cached file, or null if the cache is disabled or the object
+     *         cannot be cached, in which case it should be streamed from S3
+     */
+    public CachedFile get(String bucketName, String objectKey) {
+        if (!enabled) {
+            return null;
+        }
+
+        if (uncacheable.getIfPresent(objectKey) != null) {
+            misses.increment();
+            return null;
+        }
+
+        Entry cached;
+        synchronized (this) {
+            cached = entries.get(objectKey);
+        }
+        if (cached != null && !Files.exists(cached.file().path())) {
+            // The file was removed behind our back, e.g. by a tmp cleaner.
+            remove(objectKey, cached);
+            cached = null;
+        }
+        if (cached != null) {
+            Boolean current = revalidate(bucketName, objectKey, cached);
+            if (current == null) {
+                // Deleted from S3, which the caller's download will report.
+                misses.increment();
+                return null;
+            }
+            if (current) {
+                hits.increment();
+                return cached.file();
+            }
+        }
+        misses.increment();
+
+        CompletableFuture<CachedFile> future = new CompletableFuture<>();
+        CompletableFuture<CachedFile> inFlight = loading.putIfAbsent(objectKey, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            CachedFile loaded = load(bucketName, objectKey);
+            if (loaded != null && !install(objectKey, loaded, future)) {
+                deleteQuietly(loaded.path());
+                loaded = null;
+            }
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(objectKey, future);
+        }
+    }
+
+    /**
+     * Removes an object from the cache, e.g. after it has been deleted from S3.
+     * A download of the object that is still in progress will not be cached.
+     *
+     * @param objectKey the key of the object in S3
+     */
+    public void evict(String objectKey) {
+        if (!enabled) {
+            return;
+        }
+        loading.remove(objectKey);
+        Entry removed;
+        synchronized (this) {
+            removed = entries.remove(objectKey);
+            if (removed != null) {
+                currentSizeBytes -= removed.file().size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.file().path());
+        }
+    }
+
+    /**
+     * Checks a cached entry against S3 once it is older than the
+     * revalidation interval. An entry whose object has changed or been
+     * deleted is evicted.
+     *
+     * @return true if the entry is current, false if the object has changed,
+     *         or null if it no longer exists
+     */
+    private Boolean revalidate(String bucketName, String objectKey, Entry cached) {
+        if (System.nanoTime() - cached.verifiedAt < revalidateAfter.toNanos()) {
+            return true;
+        }
+        HeadObjectResponse head = head(bucketName, objectKey);
+        if (head != null && Objects.equals(head.eTag(), cached.file().eTag())) {
+            cached.verifiedAt = System.nanoTime();
+            return true;
+        }
+        evict(objectKey);
+        return head == null ? null : false;
+    }
+
+    /**
+     * @return the metadata of the object, or null if it does not exist
+     */
+    private HeadObjectResponse head(String bucketName, String objectKey) {
+        try {
+            return awsService.headFile(bucketName, objectKey);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private CachedFile load(String bucketName, String objectKey) {
+        HeadObjectResponse head = head(bucketName, objectKey);
+        if (head == null) {
+            return null;
+        }
+        if (head.contentLength() == null || head.contentLength() > maxFileSize.toBytes()) {
+            uncacheable.put(objectKey, Boolean.TRUE);
+            return null;
+        }
+
+        Path file = null;
+        try (ResponseInputStream<GetObjectResponse> s3Object = awsService.downloadFile(bucketName, objectKey)) {
+            GetObjectResponse metadata = s3Object.response();
+            if (metadata.contentLength() == null || metadata.contentLength() > maxFileSize.toBytes()) {
+                // Replaced by a larger object since the HEAD request.
+                s3Object.abort();
+                return null;
+            }
+            file = Files.createTempFile(directory, FILE_PREFIX, ".bin");
+            try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.TRUNCATE_EXISTING)) {
+                s3Object.transferTo(out);
+            }
+            return new CachedFile(
+                    file,
+                    Files.size(file),
+                    metadata.contentType(),
+                    metadata.eTag(),
+                    metadata.lastModified());
+        } catch (IOException e) {
+            logger.warn("Could not cache file '{}', serving it from S3: {}", objectKey, e.getMessage());
+            if (file != null) {
+                deleteQuietly(file);
+            }
+            return null;
+        }
+    }
+
+    private boolean install(String objectKey, CachedFile file, CompletableFuture<CachedFile> future) {
+        List<CachedFile> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (loading.get(objectKey) != future) {
+                // Evicted while the download was running.
+                return false;
+            }
+            entries.put(objectKey, new Entry(file));
+            currentSizeBytes += file.size();
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (currentSizeBytes > maxSize.toBytes() && entries.size() > 1) {
+                CachedFile victim = eldest.next().file();
+                eldest.remove();
+                currentSizeBytes -= victim.size();
+                evicted.add(victim);
+            }
+        }
+        evicted.forEach(victim -> {
+            evictions.increment();
+            deleteQuietly(victim.path());
+        });
+        return true;
+    }
+
+    private void remove(String objectKey, Entry entry) {
+        synchronized (this) {
+            if (entries.remove(objectKey, entry)) {
+                currentSizeBytes -= entry.file().size();
+            }
+        }
+    }
+
+    private static CachedFile await(CompletableFuture<CachedFile> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized long currentSizeBytes() {
+        return currentSizeBytes;
+    }
+
+    private synchronized int entryCount() {
+        return entries.size();
+    }
+
+    private void deleteCachedFiles() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not clean up file cache directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete cached file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * A cached file and the time it was last known to match the S3 object.
+     */
+    private static final class Entry {
+
+        private final CachedFile file;
+        private volatile long verifiedAt = System.nanoTime();
+
+        Entry(CachedFile file) {
+            this.file = file;
+        }
+
+        CachedFile file() {
+            return file;
+        }
+    }
+
+    /**
+     * A file held in the local cache together with the S3 metadata of the
+     * object it was downloaded from.
+     *
+     * @param path         the location of the file on disk
+     * @param size         the size of the file in bytes
+     * @param contentType  the MIME type of the object
+     * @param eTag         the entity tag of the object
+     * @param lastModified the time the object was last modified
+     */
+    public record CachedFile(Path path, long size, String contentType, String eTag, Instant lastModified) {
+
+        /**
+         * Opens a stream on a region of the file.
+         *
+         * @param position the offset of the first byte to read
+         * @param length   the number of bytes to read
+         * @return a stream that transfers the region with FileChannel.transferTo
+         * @throws IOException if the file cannot be opened
+         */
+        public InputStream open(long position, long length) throws IOException {
+            return new FileRegionInputStream(FileChannel.open(path, StandardOpenOption.READ), position, length);
+        }
+    }
+
+    /**
+     * Input stream over a region of a file. Copying it to an output stream
+     * hands the work to {@link FileChannel#transferTo}, which reads the file in
+     * large chunks. A servlet output stream is not a channel, so the bytes
+     * still pass through the heap buffer of the channel adapter.
+     */
+    private static final class FileRegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        FileRegionInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+            if (read > 0) {
+                position += read;
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            WritableByteChannel target = Channels.newChannel(out);
+            long transferred = 0;
+            while (remaining > 0) {
+                long count = channel.transferTo(position, remaining, target);
+                if (count <= 0) {
+                    break;
+                }
+                position += count;
+                remaining -= count;
+                transferred += count;
+            }
+            return transferred;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class JpaUserDetailsService implements UserDetailsService {
     /**
      * Loads user details by username.
      * This method retrieves the user from the UserService and constructs a
-     * UserDetails object.
+     * UserPrincipal, which also carries the user ID for the JWT.
      *
      * @param username the username of the user to load
      * @return UserDetails object containing user information
@@ -39,11 +39,7 @@ public class JpaUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         try {
             User user = userService.getInternalUserByUsername(username);
-            return org.springframework.security.core.userdetails.User
-                    .withUsername(user.getUsername())
-                    .password(user.getPasswordHash())
-                    .roles(user.getRole().toString())
-                    .build();
+            return UserPrincipal.fromUser(user);
         } catch (de.studyshare.studyshare.exception.ResourceNotFoundException ex) {
             throw new UsernameNotFoundException("User not found with username: " + username, ex);
         }
@@ -0,0 +1,35 @@
+package de.studyshare.studyshare.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The claims of a JWT whose signature has been verified.
+ * Immutable, so a verified token can be cached and shared between requests.
+ *
+ * @param subject    the username the token was issued to
+ * @param jti        the unique ID of the token, used for blocklisting
+ * @param issuedAt   when the token was issued
+ * @param expiration when the token expires
+ * @param userId     the ID of the user, or null for tokens issued without it
+ * @param roles      the authorities of the user, or null for tokens issued
+ *                   without them
+ */
+public record JwtClaims(String subject, String jti, Instant issuedAt, Instant expiration, Long userId,
+        List<String> roles) {
+
+    /**
+     * @return true if the token has expired
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+
+    /**
+     * @return true if the token describes the user completely, so no database
+     *         lookup is needed to authenticate it
+     */
+    public boolean hasAuthorities() {
+        return roles != null;
+    }
+}
@@ -1,17 +1,31 @@
 package de.studyshare.studyshare.service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -21,18 +35,38 @@ import jakarta.annotation.PostConstruct;
  * Utility class for handling JWT (JSON Web Tokens) operations.
  * Provides methods to generate, validate, and extract information from JWT
  * tokens.
+ * Verified tokens are cached by the SHA-256 hash of the token until they
+ * expire, so a client sending the same token on every request only pays for
+ * the signature check once.
  */
 @Service
 public class JwtUtil {
 
+    /**
+     * Claim holding the ID of the user.
+     */
+    static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim holding the granted authorities of the user, e.g. ROLE_STUDENT.
+     */
+    static final String ROLES_CLAIM = "roles";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration.ms}")
     private long jwtExpirationMs;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+
     private Key key;
 
+    private JwtParser parser;
+
+    private Cache<String, JwtClaims> verifiedTokens;
+
     /**
      * Initializes the JWT key using the secret from application properties.
      * This method is called after the bean is constructed to ensure the key is
@@ -41,6 +75,66 @@ public class JwtUtil {
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, JwtClaims claims, long currentTime) {
+                        if (claims.expiration() == null) {
+                            return Long.MAX_VALUE;
+                        }
+                        return Math.max(0, Duration.between(Instant.now(), claims.expiration()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, JwtClaims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, JwtClaims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiry of the JWT token and returns its claims.
+     * Tokens that have been verified before are answered from the cache.
+     *
+     * @param token The JWT token.
+     * @return The verified claims of the token.
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, has an
+     *                                      invalid signature or has expired.
+     * @throws IllegalArgumentException     If the token is null or empty.
+     */
+    public JwtClaims parse(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token must not be empty");
+        }
+        String tokenHash = hash(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+        Claims claims = extractAllClaims(token);
+        Object userId = claims.get(USER_ID_CLAIM);
+        Object roles = claims.get(ROLES_CLAIM);
+        JwtClaims verified = new JwtClaims(
+                claims.getSubject(),
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                userId instanceof Number number ? number.longValue() : null,
+                roles instanceof Collection<?> collection
+                        ? collection.stream().map(String::valueOf).toList()
+                        : null);
+        verifiedTokens.put(tokenHash, verified);
+        return verified;
     }
 
     /**
@@ -50,7 +144,7 @@ public class JwtUtil {
      * @return The username (subject) from the token.
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parse(token).subject();
     }
 
     /**
@@ -60,7 +154,7 @@ public class JwtUtil {
      * @return The JTI from the token.
      */
     public String extractJti(String token) {
-        return extractClaim(token, Claims::getId);
+        return parse(token).jti();
     }
 
     /**
@@ -70,7 +164,8 @@ public class JwtUtil {
      * @return The expiration date of the token.
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        Instant expiration = parse(token).expiration();
+        return expiration != null ? Date.from(expiration) : null;
     }
 
     /**
@@ -94,17 +189,22 @@ public class JwtUtil {
      * @return The claims contained in the token.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Checks if the JWT token has expired.
+     * Hashes the token, so the cache does not hold usable credentials.
      *
      * @param token The JWT token.
-     * @return True if the token has expired, false otherwise.
+     * @return The Base64 encoded SHA-256 hash of the token.
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
@@ -116,9 +216,13 @@ public class JwtUtil {
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        // You can add more claims here if needed, e.g., roles, user ID
-        // claims.put("roles",
-        // userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList()));
+        // With the roles and user ID in the token, requests can be authenticated
+        // without loading the user.
+        claims.put(ROLES_CLAIM,
+                userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList()));
+        if (userDetails instanceof UserPrincipal principal && principal.id() != null) {
+            claims.put(USER_ID_CLAIM, principal.id());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -163,8 +267,8 @@ public class JwtUtil {
      * @return True if the token is valid, false otherwise.
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final JwtClaims claims = parse(token);
+        return (claims.subject().equals(userDetails.getUsername()) && !claims.isExpired());
     }
 
     /**
@@ -179,8 +283,7 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
+            return !parse(token).isExpired();
         } catch (Exception e) {
             // Log the exception (e.g., MalformedJwtException, ExpiredJwtException,
             // SignatureException)
@@ -2,11 +2,12 @@ package de.studyshare.studyshare.service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import de.studyshare.studyshare.domain.CatalogEntityType;
 import de.studyshare.studyshare.domain.Course;
 import de.studyshare.studyshare.domain.Lecturer;
 import de.studyshare.studyshare.dto.entity.LecturerDTO;
@@ -22,22 +23,27 @@ import jakarta.transaction.Transactional;
  * Service class for managing lecturers.
  * Provides methods to perform CRUD operations on lecturers and their associated
  * courses.
+ * Lecturers are read from the {@link CatalogCache}, which changes invalidate.
  */
 @Service
 public class LecturerService {
 
     private final LecturerRepository lecturerRepository;
     private final CourseRepository courseRepository;
+    private final CatalogCache catalogCache;
 
     /**
      * Constructs a LecturerService with the specified repositories.
      *
      * @param lecturerRepository the repository for managing lecturers
      * @param courseRepository   the repository for managing courses
+     * @param catalogCache       the cache lecturers are read from
      */
-    public LecturerService(LecturerRepository lecturerRepository, CourseRepository courseRepository) {
+    public LecturerService(LecturerRepository lecturerRepository, CourseRepository courseRepository,
+            CatalogCache catalogCache) {
         this.lecturerRepository = lecturerRepository;
         this.courseRepository = courseRepository;
+        this.catalogCache = catalogCache;
     }
 
     /**
@@ -45,11 +51,8 @@ public class LecturerService {
      *
      * @return a list of LecturerDTO objects representing all lecturers
      */
-    @Transactional
     public List<LecturerDTO> getAllLecturers() {
-        return lecturerRepository.findAll().stream()
-                .map(LecturerDTO::fromEntity)
-                .collect(Collectors.toList());
+        return catalogCache.snapshot().lecturers();
     }
 
     /**
@@ -59,11 +62,12 @@ public class LecturerService {
      * @return a LecturerDTO object representing the lecturer
      * @throws ResourceNotFoundException if no lecturer with the given ID exists
      */
-    @Transactional
     public LecturerDTO getLecturerById(Long id) {
-        return lecturerRepository.findById(id)
-                .map(LecturerDTO::fromEntity)
-                .orElseThrow(() -> new ResourceNotFoundException("Lecturer", "id", id));
+        LecturerDTO lecturer = catalogCache.snapshot().lecturerMap().get(id);
+        if (lecturer == null) {
+            throw new ResourceNotFoundException("Lecturer", "id", id);
+        }
+        return lecturer;
     }
 
     /**
@@ -97,6 +101,9 @@ public class LecturerService {
         }
 
         Lecturer savedLecturer = lecturerRepository.save(lecturer);
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.LECTURER, List.of(savedLecturer.getId()),
+                CatalogEntityType.COURSE, courseIds(savedLecturer)));
         return LecturerDTO.fromEntity(savedLecturer);
     }
 
@@ -127,6 +134,7 @@ public class LecturerService {
             lecturer.setEmail(updateRequest.email());
         }
 
+        Set<Long> affectedCourseIds = new HashSet<>(courseIds(lecturer));
         if (updateRequest.courseIds() != null) {
             Set<Course> newCourses = new HashSet<>(courseRepository.findAllById(updateRequest.courseIds()));
 
@@ -144,6 +152,10 @@ public class LecturerService {
         }
 
         Lecturer updatedLecturer = lecturerRepository.save(lecturer);
+        affectedCourseIds.addAll(courseIds(updatedLecturer));
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.LECTURER, List.of(id),
+                CatalogEntityType.COURSE, affectedCourseIds));
         return LecturerDTO.fromEntity(updatedLecturer);
     }
 
@@ -158,6 +170,7 @@ public class LecturerService {
         Lecturer lecturer = lecturerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Lecturer", "id", id));
 
+        List<Long> affectedCourseIds = courseIds(lecturer);
         for (Course course : new HashSet<>(lecturer.getCourses())) {
             course.getLecturers().remove(lecturer);
         }
@@ -165,6 +178,16 @@ public class LecturerService {
         lecturerRepository.save(lecturer);
 
         lecturerRepository.delete(lecturer);
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.LECTURER, List.of(id),
+                CatalogEntityType.COURSE, affectedCourseIds));
     }
 
+    /**
+     * The courses of a lecturer list the lecturer's ID, so they change with
+     * the lecturer's assignments.
+     */
+    private static List<Long> courseIds(Lecturer lecturer) {
+        return lecturer.getCourses().stream().map(Course::getId).toList();
+    }
 }
@@ -1,51 +1,130 @@
 package de.studyshare.studyshare.service;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import de.studyshare.studyshare.domain.Content;
 import de.studyshare.studyshare.domain.Review;
 import de.studyshare.studyshare.domain.Role;
 import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.dto.entity.RatingSummaryDTO;
 import de.studyshare.studyshare.dto.entity.ReviewDTO;
+import de.studyshare.studyshare.dto.entity.ReviewSummaryDTO;
 import de.studyshare.studyshare.dto.request.ReviewCreateRequest;
 import de.studyshare.studyshare.dto.request.ReviewUpdateRequest;
+import de.studyshare.studyshare.dto.response.ReviewScrollResponse;
 import de.studyshare.studyshare.exception.BadRequestException;
 import de.studyshare.studyshare.exception.ResourceNotFoundException;
 import de.studyshare.studyshare.repository.ContentRepository;
+import de.studyshare.studyshare.repository.ReviewKeysetCursor;
 import de.studyshare.studyshare.repository.ReviewRepository;
 import de.studyshare.studyshare.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Service class for managing reviews of content.
  * Provides methods to create, update, delete, and retrieve reviews.
+ * Every review change adjusts the running star sum and review count of its
+ * content with a single increment, so the cost does not grow with the number
+ * of reviews. The same update keeps the number of reviews per star, which
+ * the rating summary is read from; summaries are cached and evicted when a
+ * review of their content changes. A nightly job recomputes the ratings from
+ * the reviews and repairs any drift.
  */
 @Service
 public class ReviewService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewService.class);
+
+    /**
+     * Name of the reconciliation job's lease, see {@link SchedulerLockService}.
+     */
+    static final String RECONCILE_LOCK = "rating-reconciliation";
+
+    /**
+     * How long a node may hold the reconciliation lease.
+     */
+    private static final Duration RECONCILE_LEASE = Duration.ofHours(1);
+
+    /**
+     * Number of content IDs recomputed per statement by the reconciliation.
+     */
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    /**
+     * Largest page size accepted by {@link #scrollReviewsForContent}.
+     */
+    public static final int MAX_SCROLL_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ContentRepository contentRepository;
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * Rating summaries by content ID. Entries are evicted after a review of
+     * the content is committed on this node and expire after
+     * {@code content.rating-summary.cache.ttl}, which bounds how long changes
+     * made through other nodes stay invisible.
+     */
+    private Cache<Long, RatingSummaryDTO> ratingSummaries;
+
+    @Value("${spring.profiles.active:}")
+    private String activeProfiles;
+
+    @Value("${content.rating-summary.cache.max-size:10000}")
+    private long ratingSummaryCacheSize = 10000;
+
+    @Value("${content.rating-summary.cache.ttl:60s}")
+    private Duration ratingSummaryCacheTtl = Duration.ofSeconds(60);
 
     /**
      * Constructs a ReviewService with the specified repositories.
      *
-     * @param reviewRepository  the repository for managing reviews
-     * @param userRepository    the repository for managing users
-     * @param contentRepository the repository for managing content
+     * @param reviewRepository     the repository for managing reviews
+     * @param userRepository       the repository for managing users
+     * @param contentRepository    the repository for managing content
+     * @param schedulerLockService the service making sure only one node runs
+     *                             the rating reconciliation
      */
     public ReviewService(ReviewRepository reviewRepository,
             UserRepository userRepository,
-            ContentRepository contentRepository) {
+            ContentRepository contentRepository,
+            SchedulerLockService schedulerLockService) {
         this.reviewRepository = reviewRepository;
         this.userRepository = userRepository;
         this.contentRepository = contentRepository;
+        this.schedulerLockService = schedulerLockService;
+    }
+
+    /**
+     * Creates the rating summary cache.
+     */
+    @PostConstruct
+    public void init() {
+        this.ratingSummaries = Caffeine.newBuilder()
+                .maximumSize(ratingSummaryCacheSize)
+                .expireAfterWrite(ratingSummaryCacheTtl)
+                .build();
     }
 
     /**
@@ -66,6 +145,69 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves one page of review summaries for a content item, newest first,
+     * using keyset pagination. Summaries carry only the beginning of the
+     * comment; the full review is available from {@link #getReviewById(Long)}.
+     *
+     * @param contentId the ID of the content to retrieve reviews for
+     * @param cursor    the cursor returned with the previous page, or null for
+     *                  the first page
+     * @param size      the maximum number of reviews in the page
+     * @return the page of review summaries and the cursor of the next page
+     * @throws BadRequestException       if the size is not between 1 and
+     *                                   {@link #MAX_SCROLL_SIZE} or the cursor
+     *                                   is invalid
+     * @throws ResourceNotFoundException if no content with the given ID exists
+     */
+    @Transactional(readOnly = true)
+    public ReviewScrollResponse scrollReviewsForContent(Long contentId, String cursor, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_SCROLL_SIZE + ".");
+        }
+        ReviewKeysetCursor after = null;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                after = ReviewKeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+        }
+
+        // Fetch one extra row to find out whether there is a next page.
+        Limit limit = Limit.of(size + 1);
+        List<ReviewSummaryDTO> summaries = after == null
+                ? reviewRepository.findSummariesByContentId(contentId, limit)
+                : reviewRepository.findSummariesByContentIdBefore(contentId, after.createdAt(), after.id(), limit);
+        // Only an empty first page needs to tell a missing content item apart.
+        if (summaries.isEmpty() && after == null && !contentRepository.existsById(contentId)) {
+            throw new ResourceNotFoundException("Content", "id", contentId);
+        }
+        if (summaries.size() <= size) {
+            return new ReviewScrollResponse(summaries, null);
+        }
+        List<ReviewSummaryDTO> page = summaries.subList(0, size);
+        String nextCursor = ReviewKeysetCursor.after(page.get(size - 1)).encode();
+        return new ReviewScrollResponse(List.copyOf(page), nextCursor);
+    }
+
+    /**
+     * Retrieves the star distribution, number of reviews and average rating of
+     * a content item, from the cache if possible.
+     *
+     * @param contentId the ID of the content
+     * @return the rating summary of the content
+     * @throws ResourceNotFoundException if no content with the given ID exists
+     */
+    public RatingSummaryDTO getRatingSummary(Long contentId) {
+        RatingSummaryDTO summary = ratingSummaries.get(contentId,
+                id -> contentRepository.findRatingSummary(id).orElse(null));
+        if (summary == null) {
+            throw new ResourceNotFoundException("Content", "id", contentId);
+        }
+        return summary;
+    }
+
     /**
      * Retrieves a review by its ID.
      *
@@ -118,9 +260,9 @@ public class ReviewService {
         review.setComment(createRequest.comment());
 
         Review savedReview = reviewRepository.save(review);
-        
-        //calling update avg rating to keep it uptodate 
-        updateContentAverageRating(contentId);
+        contentRepository.applyRatingDelta(contentId, savedReview.getStars(), 1);
+        contentRepository.applyStarCountDelta(contentId, 0, savedReview.getStars());
+        evictRatingSummaryAfterCommit(contentId);
         return ReviewDTO.fromEntity(savedReview);
     }
 
@@ -148,6 +290,7 @@ public class ReviewService {
             throw new AccessDeniedException("You are not authorized to update this review.");
         }
 
+        int previousStars = review.getStars();
         if (updateRequest.stars() != null) {
             review.setStars(updateRequest.stars());
         }
@@ -159,9 +302,12 @@ public class ReviewService {
         }
 
         Review updatedReview = reviewRepository.save(review);
-
-        //calling update avg rating to keep it uptodate 
-        updateContentAverageRating(review.getContent().getId());
+        if (updatedReview.getStars() != previousStars) {
+            Long contentId = review.getContent().getId();
+            contentRepository.applyRatingDelta(contentId, updatedReview.getStars() - previousStars, 0);
+            contentRepository.applyStarCountDelta(contentId, previousStars, updatedReview.getStars());
+            evictRatingSummaryAfterCommit(contentId);
+        }
         return ReviewDTO.fromEntity(updatedReview);
     }
 
@@ -188,31 +334,65 @@ public class ReviewService {
         }
         Long contentId = review.getContent().getId();
         reviewRepository.delete(review);
-        updateContentAverageRating(contentId);
+        contentRepository.applyRatingDelta(contentId, -review.getStars(), -1);
+        contentRepository.applyStarCountDelta(contentId, review.getStars(), 0);
+        evictRatingSummaryAfterCommit(contentId);
     }
 
     /**
-     * Updates the average rating of the content based on its reviews.
+     * Periodically recomputes the ratings of all content from the reviews and
+     * repairs those that have drifted, e.g. after reviews were changed
+     * directly in the database.
+     * Runs once a day in production on the node holding the lease, but skips
+     * execution during tests.
+     */
+    @Scheduled(fixedRate = 86400000) // 86400000 ms = 24 hours
+    public void reconcileRatings() {
+        if (activeProfiles != null && (activeProfiles.contains("test") || activeProfiles.contains("junit"))) {
+            logger.debug("Skipping rating reconciliation during test execution (active profiles: {})",
+                    activeProfiles);
+            return;
+        }
+        if (!schedulerLockService.tryAcquire(RECONCILE_LOCK, RECONCILE_LEASE)) {
+            logger.debug("Skipping rating reconciliation, another node is running it.");
+            return;
+        }
+        try {
+            int repaired = reconcileAllRatings();
+            if (repaired > 0) {
+                logger.warn("Repaired the drifted rating of {} content items.", repaired);
+                ratingSummaries.invalidateAll();
+            }
+        } finally {
+            schedulerLockService.release(RECONCILE_LOCK);
+        }
+    }
+
+    /**
+     * Recomputes the ratings of all content from the reviews, one range of
+     * content IDs per transaction.
      *
-     * @param contentId the ID of the content to update the average rating for
-     * @throws ResourceNotFoundException if no content with the given ID exists
+     * @return the number of repaired content items
+     */
+    public int reconcileAllRatings() {
+        Long maxId = contentRepository.findMaxId();
+        int repaired = 0;
+        for (long fromId = 1; maxId != null && fromId <= maxId; fromId += RECONCILE_BATCH_SIZE) {
+            repaired += contentRepository.reconcileRatings(fromId, fromId + RECONCILE_BATCH_SIZE - 1);
+        }
+        return repaired;
+    }
+
+    /**
+     * Evicts the cached rating summary of a content item once the current
+     * transaction has committed, so the next read sees the new counts.
      */
-    private void updateContentAverageRating(Long contentId) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Content", "id",
-                        contentId + " (while updating average rating)"));
-
-        List<Review> reviews = reviewRepository.findByContentId(contentId);
-        if (reviews.isEmpty()) {
-            content.setAverageRating(0.0);
-        } else {
-            double average = reviews.stream()
-                    .mapToInt(Review::getStars)
-                    .average()
-                    .orElse(0.0);
-            average = Math.round(average * 10.0) / 10.0;
-            content.setAverageRating(average);
-        }
-        contentRepository.save(content);
+    private void evictRatingSummaryAfterCommit(Long contentId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ratingSummaries.invalidate(contentId);
+            }
+        });
     }
 }
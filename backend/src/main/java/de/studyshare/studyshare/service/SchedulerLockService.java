@@ -0,0 +1,55 @@
+package de.studyshare.studyshare.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import de.studyshare.studyshare.repository.SchedulerLockRepository;
+
+/**
+ * Makes sure a scheduled job runs on only one node of the cluster at a time.
+ * A node takes a time-limited lease on the job before running it; the lease
+ * should outlast the job, but expires on its own if the node dies.
+ */
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    /**
+     * Identifies this node as the holder of a lease.
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Constructor for SchedulerLockService.
+     *
+     * @param schedulerLockRepository the repository to access the leases
+     */
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+    }
+
+    /**
+     * Takes the lease of a job if no other node holds it.
+     *
+     * @param name  the name of the job
+     * @param lease how long the lease lasts unless released earlier
+     * @return true if this node may run the job
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        schedulerLockRepository.insertIfMissing(name);
+        return schedulerLockRepository.acquire(name, nodeId, lease.toSeconds()) == 1;
+    }
+
+    /**
+     * Releases the lease of a job held by this node, so the next run does not
+     * have to wait for it to expire.
+     *
+     * @param name the name of the job
+     */
+    public void release(String name) {
+        schedulerLockRepository.release(name, nodeId);
+    }
+}
@@ -9,33 +9,110 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Service for managing the blocklist of JWTs.
  * Uses a database table to store invalidated token identifiers (JTIs).
+ * Every request checks the blocklist, and almost every token is not on it, so
+ * the JTIs of all unexpired blocklisted tokens are also kept in memory. The
+ * set is loaded from the table at startup, so it survives restarts, and only a
+ * JTI found in memory is confirmed against the database. JTIs blocklisted on
+ * other nodes arrive through the {@link BlocklistSyncChannel}.
  */
 @Service
 public class TokenBlocklistService {
 
     private static final Logger logger = LoggerFactory.getLogger(TokenBlocklistService.class);
+
+    /**
+     * Name of the cleanup job's lease, see {@link SchedulerLockService}.
+     */
+    static final String CLEANUP_LOCK = "blocklist-cleanup";
+
+    /**
+     * How long a node may hold the cleanup lease; well above the time a
+     * cleanup takes, and below the interval between cleanups.
+     */
+    private static final Duration CLEANUP_LEASE = Duration.ofMinutes(30);
+
     private final BlocklistedTokenRepository blocklistedTokenRepository;
     private final JwtUtil jwtUtil; // To extract expiry date
+    private final BlocklistSyncChannel blocklistSyncChannel;
+    private final SchedulerLockService schedulerLockService;
+    private final Counter cleanupDeleted;
+    private final Timer cleanupDuration;
+
+    /**
+     * JTIs of the blocklisted tokens that have not expired yet, mapped to
+     * their expiry date.
+     */
+    private final Map<String, Instant> blocklistedJtis = new ConcurrentHashMap<>();
     
     @Value("${spring.profiles.active:}")
     private String activeProfiles;
 
+    @Value("${jwt.blocklist.cleanup.batch-size:1000}")
+    private int cleanupBatchSize = 1000;
+
     /**
      * Constructor for TokenBlocklistService.
      * 
      * @param blocklistedTokenRepository Repository for accessing blocklisted
      *                                   tokens.
      * @param jwtUtil                    Utility for handling JWT operations.
+     * @param blocklistSyncChannel       Channel exchanging blocklisted JTIs with
+     *                                   the other nodes.
+     * @param schedulerLockService       Service making sure only one node runs
+     *                                   the cleanup.
+     * @param meterRegistry              Registry the cleanup metrics are
+     *                                   published to.
      */
-    public TokenBlocklistService(BlocklistedTokenRepository blocklistedTokenRepository, JwtUtil jwtUtil) {
+    public TokenBlocklistService(BlocklistedTokenRepository blocklistedTokenRepository, JwtUtil jwtUtil,
+            BlocklistSyncChannel blocklistSyncChannel, SchedulerLockService schedulerLockService,
+            MeterRegistry meterRegistry) {
         this.blocklistedTokenRepository = blocklistedTokenRepository;
         this.jwtUtil = jwtUtil;
+        this.blocklistSyncChannel = blocklistSyncChannel;
+        this.schedulerLockService = schedulerLockService;
+        this.cleanupDeleted = Counter.builder("studyshare.blocklist.cleanup.deleted")
+                .description("Expired blocklisted tokens deleted by the cleanup job")
+                .register(meterRegistry);
+        this.cleanupDuration = Timer.builder("studyshare.blocklist.cleanup.duration")
+                .description("Time taken by the blocklist cleanup job")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the unexpired blocklisted JTIs from the database, so tokens
+     * blocklisted before a restart stay rejected, and starts listening for
+     * JTIs blocklisted on other nodes.
+     */
+    @PostConstruct
+    public void loadBlocklist() {
+        Instant now = Instant.now();
+        for (BlocklistedToken token : blocklistedTokenRepository.findByExpiryDateAfter(now)) {
+            blocklistedJtis.put(token.getJti(), token.getExpiryDate());
+        }
+        logger.info("Loaded {} blocklisted token JTIs.", blocklistedJtis.size());
+        blocklistSyncChannel.subscribe(this::onBlocklisted);
+    }
+
+    private void onBlocklisted(String jti, Instant expiryDate) {
+        if (expiryDate.isAfter(Instant.now())) {
+            blocklistedJtis.put(jti, expiryDate);
+        }
     }
 
     /**
@@ -50,9 +127,11 @@ public class TokenBlocklistService {
             String jti = jwtUtil.extractJti(token);
             Date expiryDate = jwtUtil.extractExpiration(token);
             if (jti != null && expiryDate != null) {
+                blocklistedJtis.put(jti, expiryDate.toInstant());
                 if (!blocklistedTokenRepository.existsByJti(jti)) {
                     BlocklistedToken blocklisted = new BlocklistedToken(jti, expiryDate.toInstant());
                     blocklistedTokenRepository.save(blocklisted);
+                    blocklistSyncChannel.publish(jti, expiryDate.toInstant());
                     logger.info("Token JTI added to blocklist: {}", jti);
                 } else {
                     logger.warn("Attempted to blocklist an already blocklisted JTI: {}", jti);
@@ -73,11 +152,7 @@ public class TokenBlocklistService {
      */
     public boolean isBlocklisted(String token) {
         try {
-            String jti = jwtUtil.extractJti(token);
-            if (jti != null) {
-                return blocklistedTokenRepository.existsByJti(jti);
-            }
-            return false; // Cannot determine if blocklisted without JTI
+            return isJtiBlocklisted(jwtUtil.extractJti(token));
         } catch (Exception e) {
             // If token is malformed or JTI cannot be extracted, treat as potentially risky
             logger.warn("Could not extract JTI for blocklist check, token might be invalid: {}", e.getMessage());
@@ -85,22 +160,72 @@ public class TokenBlocklistService {
         }
     }
 
+    /**
+     * Checks if a JTI is in the blocklist.
+     * Used by callers that have already verified the token and extracted its
+     * claims. Only JTIs found in memory are confirmed against the database.
+     * 
+     * @param jti The JWT ID.
+     * @return true if the JTI is blocklisted, false otherwise or if it is null.
+     */
+    public boolean isJtiBlocklisted(String jti) {
+        if (jti == null) {
+            return false; // Cannot determine if blocklisted without JTI
+        }
+        // A JTI in memory but not in the table belongs to a blocklisting that is
+        // still being committed or was rolled back.
+        return blocklistedJtis.containsKey(jti) && blocklistedTokenRepository.existsByJti(jti);
+    }
+
     /**
      * Periodically cleans up expired tokens from the blocklist.
-     * Runs every hour in production, but skips execution during tests.
+     * Runs every hour in production, but skips execution during tests. Only
+     * the node holding the cleanup lease deletes rows; every node prunes its
+     * in-memory set.
      */
     @Scheduled(fixedRate = 3600000) // 3600000 ms = 1 hour
-    @Transactional
     public void cleanupExpiredTokens() {
+        Instant now = Instant.now();
+        blocklistedJtis.values().removeIf(expiryDate -> expiryDate.isBefore(now));
+
         // Skip cleanup during tests to prevent database connection issues
         if (activeProfiles != null && (activeProfiles.contains("test") || activeProfiles.contains("junit"))) {
             logger.debug("Skipping scheduled cleanup during test execution (active profiles: {})", activeProfiles);
             return;
         }
-        
-        Instant now = Instant.now();
-        logger.info("Running scheduled cleanup of expired blocklisted tokens before: {}", now);
-        long count = blocklistedTokenRepository.deleteByExpiryDateBefore(now);
-        logger.info("Cleaned up {} expired blocklisted tokens.", count);
+
+        if (!schedulerLockService.tryAcquire(CLEANUP_LOCK, CLEANUP_LEASE)) {
+            logger.debug("Skipping blocklist cleanup, another node is running it.");
+            return;
+        }
+        try {
+            logger.info("Running scheduled cleanup of expired blocklisted tokens before: {}", now);
+            long count = deleteExpiredTokens(now);
+            logger.info("Cleaned up {} expired blocklisted tokens.", count);
+        } finally {
+            schedulerLockService.release(CLEANUP_LOCK);
+        }
+    }
+
+    /**
+     * Deletes the blocklisted tokens that expired before the given timestamp
+     * in batches of {@code jwt.blocklist.cleanup.batch-size} rows, each in its
+     * own transaction, so a cleanup after a mass logout neither holds long
+     * locks nor loads the rows into memory.
+     *
+     * @param now The current timestamp.
+     * @return The number of tokens deleted.
+     */
+    public long deleteExpiredTokens(Instant now) {
+        long start = System.nanoTime();
+        long count = 0;
+        int deleted;
+        do {
+            deleted = blocklistedTokenRepository.deleteExpiredBatch(now, cleanupBatchSize);
+            count += deleted;
+            cleanupDeleted.increment(deleted);
+        } while (deleted == cleanupBatchSize);
+        cleanupDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return count;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package de.studyshare.studyshare.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import de.studyshare.studyshare.domain.UserInvalidation;
+import de.studyshare.studyshare.repository.UserInvalidationRepository;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Remembers users whose existing tokens must no longer be trusted, e.g.
+ * because they were deleted or their role changed.
+ * Tokens carry the user's roles, so the request filter does not load the user
+ * from the database; instead it asks this registry whether the token was
+ * issued before the user was invalidated.
+ * Invalidations are stored in the user_invalidations table as part of the
+ * invalidating transaction, and every node polls the table for new entries
+ * the same way {@link DatabaseBlocklistSyncChannel} polls the blocklist, so
+ * all nodes reject the tokens within one poll interval
+ * ({@code jwt.blocklist.sync-interval-ms}). Entries are dropped once every
+ * token issued before them has expired.
+ */
+@Service
+public class UserInvalidationRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserInvalidationRegistry.class);
+
+    /**
+     * How far each poll looks back before the newest entry seen, to pick up
+     * invalidations that committed out of order.
+     */
+    static final Duration LOOKBACK = Duration.ofMinutes(1);
+
+    private final UserInvalidationRepository userInvalidationRepository;
+    private final Map<String, Instant> invalidatedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidation time of the newest entry seen, or null before the first
+     * poll.
+     */
+    private Instant newestSeen;
+
+    @Value("${jwt.expiration.ms}")
+    private long jwtExpirationMs;
+
+    @Value("${spring.profiles.active:}")
+    private String activeProfiles;
+
+    /**
+     * Constructor for UserInvalidationRegistry.
+     *
+     * @param userInvalidationRepository the repository storing the
+     *                                   invalidations
+     */
+    public UserInvalidationRegistry(UserInvalidationRepository userInvalidationRepository) {
+        this.userInvalidationRepository = userInvalidationRepository;
+    }
+
+    /**
+     * Loads the invalidations that still affect unexpired tokens.
+     */
+    @PostConstruct
+    public void loadInvalidations() {
+        poll();
+    }
+
+    /**
+     * Invalidates all tokens issued to the user up to now. The invalidation is
+     * stored in the current transaction and only takes effect once it
+     * commits, so a rolled back change leaves the user's tokens valid.
+     *
+     * @param username the username of the user
+     */
+    public void invalidate(String username) {
+        UserInvalidation invalidation = userInvalidationRepository.save(new UserInvalidation(username));
+        Instant at = invalidation.getInvalidatedAt() != null ? invalidation.getInvalidatedAt() : Instant.now();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(username, at);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(username, at);
+            }
+        });
+    }
+
+    /**
+     * Checks whether a token was issued before its user was invalidated.
+     * JWTs store the issue time in whole seconds, so tokens issued in the same
+     * second as the invalidation are rejected as well.
+     *
+     * @param username the subject of the token
+     * @param issuedAt the issue time of the token, or null if unknown
+     * @return true if the token must be rejected
+     */
+    public boolean isInvalidated(String username, Instant issuedAt) {
+        Instant invalidated = invalidatedAt.get(username);
+        if (invalidated == null) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.isAfter(invalidated.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Periodically polls the invalidation table for entries made on other
+     * nodes. Runs every few seconds in production, but skips execution during
+     * tests, which call {@link #poll()} directly.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blocklist.sync-interval-ms:5000}")
+    public void scheduledPoll() {
+        if (activeProfiles != null && (activeProfiles.contains("test") || activeProfiles.contains("junit"))) {
+            logger.debug("Skipping user invalidation synchronization during test execution (active profiles: {})",
+                    activeProfiles);
+            return;
+        }
+        poll();
+    }
+
+    /**
+     * Applies the invalidations made since the last poll and deletes the ones
+     * no unexpired token can predate. The first poll applies every entry that
+     * still affects unexpired tokens.
+     *
+     * @return the number of invalidations applied
+     */
+    public synchronized int poll() {
+        Instant oldestRelevant = Instant.now().minus(Duration.ofMillis(jwtExpirationMs));
+        List<UserInvalidation> invalidations = userInvalidationRepository.findByInvalidatedAtAfter(
+                newestSeen == null ? oldestRelevant : newestSeen.minus(LOOKBACK));
+        for (UserInvalidation invalidation : invalidations) {
+            remember(invalidation.getUsername(), invalidation.getInvalidatedAt());
+            if (newestSeen == null || invalidation.getInvalidatedAt().isAfter(newestSeen)) {
+                newestSeen = invalidation.getInvalidatedAt();
+            }
+        }
+        if (newestSeen == null) {
+            // Nothing invalidated yet; start from the epoch so the next poll is incremental.
+            newestSeen = Instant.EPOCH.plus(LOOKBACK);
+        }
+        invalidatedAt.values().removeIf(instant -> instant.isBefore(oldestRelevant));
+        userInvalidationRepository.deleteInvalidatedBefore(oldestRelevant);
+        return invalidations.size();
+    }
+
+    private void remember(String username, Instant at) {
+        invalidatedAt.merge(username, at, (current, added) -> added.isAfter(current) ? added : current);
+    }
+}
@@ -0,0 +1,69 @@
+package de.studyshare.studyshare.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import de.studyshare.studyshare.domain.User;
+
+/**
+ * The authenticated user as seen by Spring Security.
+ * Carries the user ID next to the username and authorities, so it can be
+ * written into a JWT and rebuilt from its claims on later requests without
+ * loading the user from the database.
+ *
+ * @param id          the ID of the user, or null if unknown
+ * @param username    the username of the user
+ * @param password    the password hash, or null if the principal was built from
+ *                    a JWT
+ * @param authorities the granted authorities, e.g. ROLE_STUDENT
+ */
+public record UserPrincipal(Long id, String username, String password,
+        Collection<? extends GrantedAuthority> authorities) implements UserDetails {
+
+    /**
+     * Creates the principal of a user loaded from the database.
+     *
+     * @param user the user entity
+     * @return the principal including the password hash
+     */
+    public static UserPrincipal fromUser(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getPasswordHash(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())));
+    }
+
+    /**
+     * Creates the principal described by the claims of a verified JWT.
+     *
+     * @param claims the verified claims, which must include the roles
+     * @return the principal without a password
+     */
+    public static UserPrincipal fromClaims(JwtClaims claims) {
+        return new UserPrincipal(claims.userId(), claims.subject(), null,
+                claims.roles().stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String toString() {
+        // Never print the password hash.
+        return "UserPrincipal[id=" + id + ", username=" + username + ", authorities=" + authorities + "]";
+    }
+}
@@ -67,6 +67,11 @@ public class UserSecurityService {
             return false;
         }
 
+        // Principals built from a JWT know their user ID, so no lookup is needed.
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.id() != null) {
+            return id.equals(principal.id());
+        }
+
         String username = userRepository.findById(id)
                 .map(user -> user.getUsername())
                 .orElse(null);
@@ -32,17 +32,22 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserInvalidationRegistry userInvalidationRegistry;
 
     /**
      * Constructs a UserService with the specified UserRepository and
      * PasswordEncoder.
      *
-     * @param userRepository  the repository for managing users
-     * @param passwordEncoder the password encoder for encoding passwords
+     * @param userRepository           the repository for managing users
+     * @param passwordEncoder          the password encoder for encoding passwords
+     * @param userInvalidationRegistry the registry revoking the tokens of deleted
+     *                                 users
      */
-    public UserService(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder,
+            UserInvalidationRegistry userInvalidationRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userInvalidationRegistry = userInvalidationRegistry;
     }
 
     /**
@@ -158,10 +163,12 @@ public class UserService {
      */
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User", "id", id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        userRepository.delete(user);
+        // Tokens carry the user's roles, so they stay valid unless revoked here.
+        // The revocation commits with the delete and is enforced after the commit.
+        userInvalidationRegistry.invalidate(user.getUsername());
     }
 
     /**
@@ -0,0 +1,3 @@
+-- Executed by Hibernate after it has created the schema (spring.jpa.hibernate.ddl-auto=create).
+-- Full-text index for the title search in ContentSpecifications; JPA cannot declare FULLTEXT indexes.
+CREATE FULLTEXT INDEX ft_content_title ON content (title);
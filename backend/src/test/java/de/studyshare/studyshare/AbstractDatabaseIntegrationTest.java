@@ -4,6 +4,7 @@ import org.testcontainers.containers.MariaDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import de.studyshare.studyshare.config.EntityCacheConfig;
 import de.studyshare.studyshare.config.TestConfig;
 import de.studyshare.studyshare.repository.BlocklistedTokenRepository;
 import de.studyshare.studyshare.repository.ContentRepository;
@@ -12,6 +13,7 @@ import de.studyshare.studyshare.repository.FacultyRepository;
 import de.studyshare.studyshare.repository.LecturerRepository;
 import de.studyshare.studyshare.repository.ReviewRepository;
 import de.studyshare.studyshare.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
@@ -27,13 +29,16 @@ import org.springframework.test.context.DynamicPropertySource;
 
 @DirtiesContext
 @Testcontainers
-@Import(TestConfig.class)
+@Import({ TestConfig.class, EntityCacheConfig.class })
 @ActiveProfiles("test")
 public abstract class AbstractDatabaseIntegrationTest {
 
     @Autowired
     protected JdbcTemplate jdbcTemplate; // Autowire JdbcTemplate
 
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
     // Keep repositories if your concrete test setup methods will use them for convenience
     @Autowired
     protected UserRepository userRepository;
@@ -112,12 +117,18 @@ public abstract class AbstractDatabaseIntegrationTest {
         
         List<String> tableNames = List.of(
             "review",
+            "content_signals",
+            "catalog_changes",
+            "catalog_version",
             "content",
+            "upload_sessions",
             "course_lecturer", 
             "course",
             "lecturer",
             "faculty",
             "blocklisted_tokens",
+            "user_invalidations",
+            "scheduler_locks",
             "users"
         );
 
@@ -138,6 +149,10 @@ public abstract class AbstractDatabaseIntegrationTest {
             }
 
             jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1;");
+
+            // The rows were deleted behind Hibernate's back, and the reset IDs
+            // would otherwise hit entries cached by an earlier test.
+            entityManagerFactory.getCache().evictAll();
         } catch (Exception e) {
             // If database reset fails, log and rethrow
             System.err.println("Failed to reset database: " + e.getMessage());
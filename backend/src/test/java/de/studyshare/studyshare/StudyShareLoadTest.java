@@ -0,0 +1,301 @@
+package de.studyshare.studyshare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.dto.request.LoginRequest;
+import de.studyshare.studyshare.dto.request.ReviewCreateRequest;
+import de.studyshare.studyshare.dto.response.LoginResponse;
+import de.studyshare.studyshare.service.AwsService;
+import de.studyshare.studyshare.service.CatalogCache;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Replays a mix of browse, search, download, review, report and
+ * login/logout traffic against the full application on MariaDB and MinIO,
+ * after seeding it with {@link BulkDataSeeder}, and prints the throughput
+ * and the p50/p95/p99 latency of each endpoint.
+ * The size of the run is set with system properties, e.g.
+ * {@code mvn test -Pperformance -Dtest=StudyShareLoadTest -Dload.contents=2000000
+ * -Dload.mix=browse:50,search:30,download:20}: {@code load.contents},
+ * {@code load.users}, {@code load.threads}, {@code load.duration-seconds},
+ * {@code load.mix} (operation:weight pairs) and {@code load.pool-size}.
+ * Excluded from the default build; run with {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.org.springframework.security=INFO")
+class StudyShareLoadTest extends AbstractFullIntegrationTest {
+
+    private static final long CONTENTS = Long.getLong("load.contents", 100_000);
+    private static final int USERS = Integer.getInteger("load.users", 1_000);
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+    private static final String MIX = System.getProperty("load.mix",
+            "browse:40,search:20,download:15,review:10,report:5,login:10");
+    private static final int POOL_SIZE = Integer.getInteger("load.pool-size", 20);
+
+    private static final String PASSWORD = "LoadPassword1!";
+    private static final int FILES = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AwsService awsService;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${s3.bucket-name}")
+    private String bucketName;
+
+    private String baseUrl;
+    private List<String> filePaths;
+    private BulkDataSeeder.Seeded seeded;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, Timer> timers = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+
+    @BeforeEach
+    void seed() throws Exception {
+        baseUrl = "http://localhost:" + port + "/api";
+        // The tests share a small pool, which would make the pool the bottleneck.
+        dataSource.unwrap(HikariDataSource.class).getHikariConfigMXBean().setMaximumPoolSize(POOL_SIZE);
+
+        filePaths = new ArrayList<>();
+        byte[] data = new byte[64 * 1024];
+        ThreadLocalRandom.current().nextBytes(data);
+        for (int i = 0; i < FILES; i++) {
+            String key = UUID.randomUUID() + "_notes-" + i + ".pdf";
+            awsService.uploadFile(bucketName, key, data.length, "application/pdf", new ByteArrayInputStream(data));
+            filePaths.add(key);
+        }
+
+        long start = System.nanoTime();
+        seeded = new BulkDataSeeder(jdbcTemplate, entityManagerFactory, catalogCache, transactionManager).seed(
+                new BulkDataSeeder.Plan("loaduser", USERS, 20, 200, 1_000, CONTENTS, 4, 1_000),
+                passwordEncoder.encode(PASSWORD), filePaths);
+        System.out.printf("Seeded %d users, %d content items and %d reviews in %.1f s%n",
+                USERS, CONTENTS, seeded.reviews(), (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    @Test
+    @DisplayName("Should serve the traffic mix without server errors")
+    void trafficMix() throws Exception {
+        List<Operation> operations = parseMix(MIX);
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        for (Operation operation : operations) {
+            timers.put(operation.name(), Timer.builder("load." + operation.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .percentilePrecision(2)
+                    .distributionStatisticExpiry(DURATION.multipliedBy(2))
+                    .distributionStatisticBufferLength(1)
+                    .register(registry));
+            errors.put(operation.name(), new AtomicLong());
+        }
+
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long user = t % USERS;
+                runs.add(virtualUsers.submit(() -> {
+                    String token = login(seeded.username(user));
+                    while (System.nanoTime() < deadline) {
+                        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+                        for (Operation operation : operations) {
+                            pick -= operation.weight();
+                            if (pick < 0) {
+                                record(operation.name(), () -> operation.call().apply(token));
+                                break;
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            virtualUsers.shutdown();
+            virtualUsers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        printReport();
+        errors.forEach((name, count) -> assertThat(count.get()).as("errors of %s", name).isZero());
+    }
+
+    private record Operation(String name, int weight, Function<String, ResponseEntity<byte[]>> call) {
+    }
+
+    private List<Operation> parseMix(String mix) {
+        List<Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            String name = parts[0];
+            Function<String, ResponseEntity<byte[]>> call = switch (name) {
+                case "browse" -> this::browse;
+                case "search" -> this::search;
+                case "download" -> this::download;
+                case "review" -> this::review;
+                case "report" -> this::report;
+                case "login" -> token -> loginLogout();
+                default -> throw new IllegalArgumentException("Unknown operation '" + name + "' in " + mix);
+            };
+            operations.add(new Operation(name, Integer.parseInt(parts[1]), call));
+        }
+        return operations;
+    }
+
+    private ResponseEntity<byte[]> browse(String token) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ContentCategory[] categories = ContentCategory.values();
+        String query = random.nextBoolean()
+                ? "courseId=" + (seeded.firstCourseId() + random.nextInt(seeded.plan().courses()))
+                : "facultyId=" + (seeded.firstFacultyId() + random.nextInt(seeded.plan().faculties()))
+                        + "&category=" + categories[random.nextInt(categories.length)];
+        return get("/contents/browse?" + query + "&page=" + random.nextInt(5), token);
+    }
+
+    private ResponseEntity<byte[]> search(String token) {
+        String word = BulkDataSeeder.TITLE_WORDS.get(
+                ThreadLocalRandom.current().nextInt(BulkDataSeeder.TITLE_WORDS.size()));
+        return get("/contents/browse?searchTerm=" + word, token);
+    }
+
+    private ResponseEntity<byte[]> download(String token) {
+        return get("/contents/download/" + filePaths.get(ThreadLocalRandom.current().nextInt(filePaths.size())),
+                token);
+    }
+
+    private ResponseEntity<byte[]> review(String token) {
+        ReviewCreateRequest request = new ReviewCreateRequest(ThreadLocalRandom.current().nextInt(1, 6),
+                "Load review", "Posted by the load test.");
+        return restTemplate.exchange(baseUrl + "/contents/" + randomContentId() + "/reviews", HttpMethod.POST,
+                new HttpEntity<>(request, headers(token)), byte[].class);
+    }
+
+    private ResponseEntity<byte[]> report(String token) {
+        return restTemplate.exchange(baseUrl + "/contents/" + randomContentId() + "/report", HttpMethod.POST,
+                new HttpEntity<>(headers(token)), byte[].class);
+    }
+
+    private ResponseEntity<byte[]> loginLogout() {
+        String token = login(seeded.username(ThreadLocalRandom.current().nextLong(USERS)));
+        return restTemplate.exchange(baseUrl + "/auth/logout", HttpMethod.POST,
+                new HttpEntity<>(headers(token)), byte[].class);
+    }
+
+    private ResponseEntity<byte[]> get(String path, String token) {
+        return restTemplate.exchange(baseUrl + path, HttpMethod.GET, new HttpEntity<>(headers(token)), byte[].class);
+    }
+
+    private String login(String username) {
+        ResponseEntity<LoginResponse> response = restTemplate.postForEntity(baseUrl + "/auth/login",
+                new LoginRequest(username, PASSWORD), LoginResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().token();
+    }
+
+    private long randomContentId() {
+        return seeded.firstContentId() + ThreadLocalRandom.current().nextLong(CONTENTS);
+    }
+
+    private static HttpHeaders headers(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    /**
+     * Times one call. Server errors, rejected tokens and failed calls count
+     * as errors; conflicts such as a second review of the same content are
+     * expected answers.
+     */
+    private void record(String name, Supplier<ResponseEntity<byte[]>> call) {
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<byte[]> response = call.get();
+            if (response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+                errors.get(name).incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            errors.get(name).incrementAndGet();
+        } finally {
+            timers.get(name).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void printReport() {
+        double seconds = DURATION.toNanos() / 1_000_000_000.0;
+        System.out.printf("Load test: %d threads for %.0f s against %d content items%n", THREADS, seconds, CONTENTS);
+        System.out.printf("%-10s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        timers.forEach((name, timer) -> {
+            ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+            System.out.printf("%-10s %10d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                    name, timer.count(), errors.get(name).get(), timer.count() / seconds,
+                    percentiles[0].value(TimeUnit.MILLISECONDS),
+                    percentiles[1].value(TimeUnit.MILLISECONDS),
+                    percentiles[2].value(TimeUnit.MILLISECONDS));
+        });
+    }
+}
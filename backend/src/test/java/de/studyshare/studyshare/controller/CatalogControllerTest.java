@@ -0,0 +1,171 @@
+package de.studyshare.studyshare.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import de.studyshare.studyshare.AbstractDatabaseIntegrationTest;
+import de.studyshare.studyshare.domain.Role;
+import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.dto.entity.FacultyDTO;
+import de.studyshare.studyshare.dto.request.FacultyCreateRequest;
+import de.studyshare.studyshare.dto.request.FacultyUpdateRequest;
+import de.studyshare.studyshare.dto.response.CatalogResponse;
+import de.studyshare.studyshare.repository.UserRepository;
+import de.studyshare.studyshare.service.JpaUserDetailsService;
+import de.studyshare.studyshare.service.JwtUtil;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class CatalogControllerTest extends AbstractDatabaseIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JpaUserDetailsService jpaUserDetailsService;
+
+    private String baseUrl;
+
+    private String adminUserJwt;
+    private String testUserJwt;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api";
+
+        User adminUser = new User("Admin", "User", "admin@example.com", "admin", passwordEncoder.encode("adminpass"),
+                Role.ADMIN);
+        userRepository.save(adminUser);
+        adminUserJwt = jwtUtil.generateToken(jpaUserDetailsService.loadUserByUsername(adminUser.getUsername()));
+
+        User testUser = new User("Test", "User", "testuser@example.com", "testuser",
+                passwordEncoder.encode("password"), Role.STUDENT);
+        userRepository.save(testUser);
+        testUserJwt = jwtUtil.generateToken(jpaUserDetailsService.loadUserByUsername(testUser.getUsername()));
+    }
+
+    private HttpHeaders jwtHeaders(String userJwt) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(userJwt);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private FacultyDTO createFaculty(String name) {
+        return restTemplate.exchange(baseUrl + "/faculties", HttpMethod.POST,
+                new HttpEntity<>(new FacultyCreateRequest(name), jwtHeaders(adminUserJwt)), FacultyDTO.class)
+                .getBody();
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should return the catalog with its version as ETag and 304 while unchanged")
+    void getCatalog_conditional() {
+        FacultyDTO faculty = createFaculty("Engineering");
+
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        ResponseEntity<CatalogResponse> resp = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET, entity,
+                CatalogResponse.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody().faculties()).containsExactly(faculty);
+        assertThat(resp.getHeaders().getETag()).isEqualTo("\"" + resp.getBody().version() + "\"");
+
+        HttpHeaders conditional = jwtHeaders(testUserJwt);
+        conditional.setIfNoneMatch(resp.getHeaders().getETag());
+        ResponseEntity<CatalogResponse> unchanged = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET,
+                new HttpEntity<>(conditional), CatalogResponse.class);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        createFaculty("Medicine");
+        ResponseEntity<CatalogResponse> changed = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET,
+                new HttpEntity<>(conditional), CatalogResponse.class);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody().version()).isGreaterThan(resp.getBody().version());
+        assertThat(changed.getBody().faculties()).hasSize(2);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should revalidate a cached catalog when the client presents a newer version")
+    void getCatalog_newerETagFromAnotherNode() {
+        createFaculty("Engineering");
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        long version = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET, entity, CatalogResponse.class)
+                .getBody().version();
+
+        // Another node changes the catalog, so this node's snapshot is stale.
+        jdbcTemplate.update("INSERT INTO faculty (name) VALUES ('Law')");
+        jdbcTemplate.update("UPDATE catalog_version SET version = version + 1");
+        String newerETag = "\"" + (version + 1) + "\"";
+
+        HttpHeaders conditional = jwtHeaders(testUserJwt);
+        conditional.setIfNoneMatch(newerETag);
+        ResponseEntity<CatalogResponse> unchanged = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET,
+                new HttpEntity<>(conditional), CatalogResponse.class);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(newerETag);
+
+        ResponseEntity<CatalogResponse> full = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET, entity,
+                CatalogResponse.class);
+        assertThat(full.getBody().version()).isEqualTo(version + 1);
+        assertThat(full.getBody().faculties()).extracting(FacultyDTO::name).contains("Law");
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should return only the changed and deleted entities since a version")
+    void getCatalog_since() {
+        FacultyDTO kept = createFaculty("Engineering");
+        FacultyDTO renamed = createFaculty("Medicine");
+        FacultyDTO deleted = createFaculty("Law");
+
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        long version = restTemplate.exchange(baseUrl + "/catalog", HttpMethod.GET, entity, CatalogResponse.class)
+                .getBody().version();
+
+        restTemplate.exchange(baseUrl + "/faculties/" + renamed.id(), HttpMethod.PUT,
+                new HttpEntity<>(new FacultyUpdateRequest("Medical School"), jwtHeaders(adminUserJwt)),
+                FacultyDTO.class);
+        restTemplate.exchange(baseUrl + "/faculties/" + deleted.id(), HttpMethod.DELETE,
+                new HttpEntity<>(jwtHeaders(adminUserJwt)), Void.class);
+
+        ResponseEntity<CatalogResponse> delta = restTemplate.exchange(baseUrl + "/catalog?since=" + version,
+                HttpMethod.GET, entity, CatalogResponse.class);
+        assertThat(delta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(delta.getBody().since()).isEqualTo(version);
+        assertThat(delta.getBody().faculties()).extracting(FacultyDTO::name).containsExactly("Medical School");
+        assertThat(delta.getBody().deletedFacultyIds()).containsExactly(deleted.id());
+        assertThat(delta.getBody().faculties()).extracting(FacultyDTO::id).doesNotContain(kept.id());
+
+        ResponseEntity<String> unknown = restTemplate.exchange(baseUrl + "/catalog?since=" + (version + 100),
+                HttpMethod.GET, entity, String.class);
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
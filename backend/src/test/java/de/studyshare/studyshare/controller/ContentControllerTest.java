@@ -3,6 +3,7 @@ package de.studyshare.studyshare.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -28,6 +29,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -41,9 +45,11 @@ import de.studyshare.studyshare.domain.Lecturer;
 import de.studyshare.studyshare.domain.Role;
 import de.studyshare.studyshare.domain.User;
 import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.ContentSummaryDTO;
 import de.studyshare.studyshare.dto.request.ContentCreateRequest;
 import de.studyshare.studyshare.dto.request.ContentUpdateRequest;
 import de.studyshare.studyshare.dto.response.ContentPageResponse;
+import de.studyshare.studyshare.dto.response.ContentScrollResponse;
 import de.studyshare.studyshare.repository.ContentRepository;
 import de.studyshare.studyshare.repository.CourseRepository;
 import de.studyshare.studyshare.repository.FacultyRepository;
@@ -51,6 +57,7 @@ import de.studyshare.studyshare.repository.LecturerRepository;
 import de.studyshare.studyshare.repository.UserRepository;
 import de.studyshare.studyshare.service.JpaUserDetailsService;
 import de.studyshare.studyshare.service.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
@@ -85,6 +92,12 @@ class ContentControllerTest extends AbstractFullIntegrationTest{
     @Autowired
     private JpaUserDetailsService jpaUserDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private String baseUrl;
     private User testUser;
     private User adminUser;
@@ -362,6 +375,221 @@ class ContentControllerTest extends AbstractFullIntegrationTest{
         assertThat(outdatedResp.getBody().outdatedCount()).isEqualTo(1);
     }
 
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should count each user's report only once")
+    void reportContent_duplicateRejected() {
+        HttpEntity<Void> userAuthEntity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        String reportUrl = baseUrl + "/" + content4.getId() + "/report";
+
+        ResponseEntity<ContentDTO> firstResp = restTemplate.exchange(reportUrl, HttpMethod.POST, userAuthEntity,
+                ContentDTO.class);
+        assertThat(firstResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstResp.getBody().reportedCount()).isEqualTo(11);
+
+        ResponseEntity<String> duplicateResp = restTemplate.exchange(reportUrl, HttpMethod.POST, userAuthEntity,
+                String.class);
+        assertThat(duplicateResp.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        ResponseEntity<ContentDTO> outdatedResp = restTemplate.exchange(
+                baseUrl + "/" + content4.getId() + "/mark-outdated", HttpMethod.POST, userAuthEntity,
+                ContentDTO.class);
+        assertThat(outdatedResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(outdatedResp.getBody().reportedCount()).isEqualTo(11);
+        assertThat(outdatedResp.getBody().outdatedCount()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should stream uploaded file on download")
+    void downloadContentFile() {
+        ContentCreateRequest req = new ContentCreateRequest(
+                ContentCategory.PDF,
+                courseAlgo.getId(),
+                lecturerDoe.getId(),
+                facultyCS.getId(),
+                "Lecture Download");
+        HttpEntity<MultiValueMap<String, Object>> createRequest = contentCreateEntity(req, testUserJwt);
+        ResponseEntity<ContentDTO> createResp = restTemplate
+                .exchange(baseUrl, HttpMethod.POST, createRequest, ContentDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(createResp.getBody()).isNotNull();
+
+        HttpEntity<Void> userAuthEntity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        ResponseEntity<byte[]> downloadResp = restTemplate
+                .exchange(baseUrl + "/download/" + createResp.getBody().filePath(), HttpMethod.GET,
+                        userAuthEntity, byte[].class);
+
+        assertThat(downloadResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(downloadResp.getBody()).isEqualTo("dummy file content".getBytes());
+        assertThat(downloadResp.getHeaders().getContentLength()).isEqualTo("dummy file content".length());
+        assertThat(downloadResp.getHeaders().getContentDisposition().getFilename()).isEqualTo("Lecture Download");
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should serve a byte range with 206 Partial Content")
+    void downloadContentFile_range() {
+        ContentCreateRequest req = new ContentCreateRequest(
+                ContentCategory.PDF,
+                courseAlgo.getId(),
+                lecturerDoe.getId(),
+                facultyCS.getId(),
+                "Lecture Range");
+        HttpEntity<MultiValueMap<String, Object>> createRequest = contentCreateEntity(req, testUserJwt);
+        ResponseEntity<ContentDTO> createResp = restTemplate
+                .exchange(baseUrl, HttpMethod.POST, createRequest, ContentDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        HttpHeaders rangeHeaders = jwtHeaders(testUserJwt);
+        rangeHeaders.set(HttpHeaders.RANGE, "bytes=6-9");
+        ResponseEntity<byte[]> rangeResp = restTemplate
+                .exchange(baseUrl + "/download/" + createResp.getBody().filePath(), HttpMethod.GET,
+                        new HttpEntity<>(rangeHeaders), byte[].class);
+
+        assertThat(rangeResp.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(new String(rangeResp.getBody())).isEqualTo("file");
+        assertThat(rangeResp.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes 6-9/" + "dummy file content".length());
+
+        rangeHeaders.set(HttpHeaders.RANGE, "bytes=1000-");
+        ResponseEntity<String> unsatisfiableResp = restTemplate
+                .exchange(baseUrl + "/download/" + createResp.getBody().filePath(), HttpMethod.GET,
+                        new HttpEntity<>(rangeHeaders), String.class);
+
+        assertThat(unsatisfiableResp.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should answer 304 Not Modified for a matching ETag")
+    void downloadContentFile_notModified() {
+        ContentCreateRequest req = new ContentCreateRequest(
+                ContentCategory.PDF,
+                courseAlgo.getId(),
+                lecturerDoe.getId(),
+                facultyCS.getId(),
+                "Lecture Cached");
+        HttpEntity<MultiValueMap<String, Object>> createRequest = contentCreateEntity(req, testUserJwt);
+        ResponseEntity<ContentDTO> createResp = restTemplate
+                .exchange(baseUrl, HttpMethod.POST, createRequest, ContentDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String downloadUrl = baseUrl + "/download/" + createResp.getBody().filePath();
+
+        ResponseEntity<byte[]> firstResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, new HttpEntity<>(jwtHeaders(testUserJwt)), byte[].class);
+        assertThat(firstResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String eTag = firstResp.getHeaders().getETag();
+        assertThat(eTag).isNotNull();
+        assertThat(firstResp.getHeaders().getLastModified()).isPositive();
+
+        HttpHeaders conditionalHeaders = jwtHeaders(testUserJwt);
+        conditionalHeaders.setIfNoneMatch(eTag);
+        ResponseEntity<byte[]> conditionalResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, new HttpEntity<>(conditionalHeaders), byte[].class);
+
+        assertThat(conditionalResp.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditionalResp.getBody()).isNull();
+        assertThat(conditionalResp.getHeaders().getETag()).isEqualTo(eTag);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should answer 412 for failed preconditions and the whole file for several ranges")
+    void downloadContentFile_preconditions() {
+        ContentCreateRequest req = new ContentCreateRequest(
+                ContentCategory.PDF,
+                courseAlgo.getId(),
+                lecturerDoe.getId(),
+                facultyCS.getId(),
+                "Lecture Preconditions");
+        HttpEntity<MultiValueMap<String, Object>> createRequest = contentCreateEntity(req, testUserJwt);
+        ResponseEntity<ContentDTO> createResp = restTemplate
+                .exchange(baseUrl, HttpMethod.POST, createRequest, ContentDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String downloadUrl = baseUrl + "/download/" + createResp.getBody().filePath();
+
+        HttpHeaders mismatchHeaders = jwtHeaders(testUserJwt);
+        mismatchHeaders.setIfMatch("\"outdated\"");
+        ResponseEntity<String> mismatchResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, new HttpEntity<>(mismatchHeaders), String.class);
+        assertThat(mismatchResp.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        HttpHeaders unmodifiedHeaders = jwtHeaders(testUserJwt);
+        unmodifiedHeaders.setIfUnmodifiedSince(0);
+        ResponseEntity<String> unmodifiedResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, new HttpEntity<>(unmodifiedHeaders), String.class);
+        assertThat(unmodifiedResp.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        ResponseEntity<byte[]> fullResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, new HttpEntity<>(jwtHeaders(testUserJwt)), byte[].class);
+        HttpHeaders matchHeaders = jwtHeaders(testUserJwt);
+        matchHeaders.setIfMatch(fullResp.getHeaders().getETag());
+        matchHeaders.set(HttpHeaders.RANGE, "bytes=0-1,6-9");
+        ResponseEntity<byte[]> matchResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, new HttpEntity<>(matchHeaders), byte[].class);
+        assertThat(matchResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(matchResp.getBody()).isEqualTo("dummy file content".getBytes());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should serve repeated downloads from the file cache and evict on delete")
+    void downloadContentFile_cachedUntilDeleted() {
+        ContentCreateRequest req = new ContentCreateRequest(
+                ContentCategory.PDF,
+                courseAlgo.getId(),
+                lecturerDoe.getId(),
+                facultyCS.getId(),
+                "Lecture Hot");
+        HttpEntity<MultiValueMap<String, Object>> createRequest = contentCreateEntity(req, testUserJwt);
+        ResponseEntity<ContentDTO> createResp = restTemplate
+                .exchange(baseUrl, HttpMethod.POST, createRequest, ContentDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String downloadUrl = baseUrl + "/download/" + createResp.getBody().filePath();
+        HttpEntity<Void> userAuthEntity = new HttpEntity<>(jwtHeaders(testUserJwt));
+
+        double hitsBefore = meterRegistry.counter("studyshare.file.cache.requests", "result", "hit").count();
+        ResponseEntity<byte[]> firstResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, userAuthEntity, byte[].class);
+        ResponseEntity<byte[]> secondResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, userAuthEntity, byte[].class);
+
+        assertThat(firstResp.getBody()).isEqualTo("dummy file content".getBytes());
+        assertThat(secondResp.getBody()).isEqualTo("dummy file content".getBytes());
+        assertThat(meterRegistry.counter("studyshare.file.cache.requests", "result", "hit").count())
+                .isEqualTo(hitsBefore + 1);
+
+        ResponseEntity<Void> delResp = restTemplate
+                .exchange(baseUrl + "/" + createResp.getBody().id(), HttpMethod.DELETE,
+                        new HttpEntity<>(jwtHeaders(adminUserJwt)), Void.class);
+        assertThat(delResp.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        ResponseEntity<String> deletedResp = restTemplate
+                .exchange(downloadUrl, HttpMethod.GET, userAuthEntity, String.class);
+        assertThat(deletedResp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should keep a review's rating that commits while an update holds the loaded content")
+    void updateContent_keepsConcurrentRating() {
+        TransactionTemplate update = new TransactionTemplate(transactionManager);
+        TransactionTemplate review = new TransactionTemplate(transactionManager);
+        review.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        update.executeWithoutResult(status -> {
+            Content loaded = contentRepository.findById(content1.getId()).orElseThrow();
+            review.executeWithoutResult(inner -> contentRepository.applyRatingDelta(content1.getId(), 4, 1));
+            loaded.setTitle("Renamed during review");
+            contentRepository.save(loaded);
+        });
+
+        Content reloaded = contentRepository.findById(content1.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Renamed during review");
+        assertThat(reloaded.getRatingSum()).isEqualTo(content1.getRatingSum() + 4);
+        assertThat(reloaded.getRatingCount()).isEqualTo(content1.getRatingCount() + 1);
+    }
+
     @Test
     @DisplayName("Should not allow update by non-owner non-admin")
     void updateContent_notOwnerForbidden() {
@@ -572,6 +800,44 @@ class ContentControllerTest extends AbstractFullIntegrationTest{
         assertThat(pageResponse.content().get(0).title()).isEqualTo("Java Basics");
     }
 
+    @Test
+    @DisplayName("[Browse] Full-text search matches word prefixes and combines with filters")
+    @SuppressWarnings("null")
+    void browseContents_fullTextSearch() {
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+
+        // Every word must match the start of a word in the title, in any order.
+        ResponseEntity<ContentPageResponse> prefixResponse = restTemplate.exchange(
+                baseUrl + "/browse?searchTerm=secur web&sortBy=relevance",
+                HttpMethod.GET,
+                entity,
+                ContentPageResponse.class);
+        assertThat(prefixResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(prefixResponse.getBody().content()).extracting(ContentDTO::title)
+                .containsExactly("Web App Security");
+
+        // Words too short for the index fall back to a substring match.
+        ResponseEntity<ContentPageResponse> shortWordResponse = restTemplate.exchange(
+                baseUrl + "/browse?searchTerm=ja",
+                HttpMethod.GET,
+                entity,
+                ContentPageResponse.class);
+        assertThat(shortWordResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(shortWordResponse.getBody().content()).extracting(ContentDTO::title)
+                .containsExactly("Java Basics");
+
+        UriComponentsBuilder filteredBuilder = UriComponentsBuilder.fromUriString(baseUrl + "/browse")
+                .queryParam("searchTerm", "algorithms")
+                .queryParam("facultyId", facultyEng.getId());
+        ResponseEntity<ContentPageResponse> filteredResponse = restTemplate.exchange(
+                filteredBuilder.toUriString(),
+                HttpMethod.GET,
+                entity,
+                ContentPageResponse.class);
+        assertThat(filteredResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(filteredResponse.getBody().content()).isEmpty();
+    }
+
     @Test
     @DisplayName("[Browse] Filter by multiple criteria (facultyCS and PDF)")
     @SuppressWarnings("null")
@@ -595,6 +861,125 @@ class ContentControllerTest extends AbstractFullIntegrationTest{
                 c -> c.faculty().id().equals(facultyCS.getId()) && c.contentCategory() == ContentCategory.PDF));
     }
 
+    /**
+     * The JSON fields of a page of content summaries used by the tests.
+     */
+    private record ContentSummaryPage(List<ContentSummaryDTO> content, long totalElements) {
+    }
+
+    @Test
+    @DisplayName("[Browse] Summaries filtered by facultyCS and PDF, newest first")
+    @SuppressWarnings("null")
+    void browseContentSummaries_filterByMultipleCriteria() {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + "/browse/summary")
+                .queryParam("facultyId", facultyCS.getId())
+                .queryParam("category", ContentCategory.PDF.toString());
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        ResponseEntity<ContentSummaryPage> response = restTemplate.exchange(
+                builder.toUriString(),
+                HttpMethod.GET,
+                entity,
+                ContentSummaryPage.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ContentSummaryPage pageResponse = response.getBody();
+        assertThat(pageResponse).isNotNull();
+        assertThat(pageResponse.totalElements()).isEqualTo(3); // 3 PDFs in CS
+        assertThat(pageResponse.content()).extracting(ContentSummaryDTO::id)
+                .containsExactly(content2.getId(), content1.getId(), content4.getId());
+
+        ContentSummaryDTO summary = pageResponse.content().get(1);
+        assertThat(summary.title()).isEqualTo("Java Basics");
+        assertThat(summary.averageRating()).isEqualTo(4.5);
+        assertThat(summary.uploadedByUsername()).isEqualTo(testUser.getUsername());
+        assertThat(summary.courseName()).isEqualTo(courseAlgo.getName());
+        assertThat(summary.lecturerName()).isEqualTo(lecturerDoe.getName());
+        assertThat(summary.facultyId()).isEqualTo(facultyCS.getId());
+        assertThat(summary.facultyName()).isEqualTo(facultyCS.getName());
+    }
+
+    @Test
+    @DisplayName("[Browse] Scroll through all contents by uploadDate DESC with a cursor")
+    @SuppressWarnings("null")
+    void scrollContents_byUploadDateDesc() {
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + "/browse/scroll")
+                    .queryParam("size", 2);
+            if (cursor != null) {
+                builder.queryParam("cursor", cursor);
+            }
+            ResponseEntity<ContentScrollResponse> response = restTemplate.exchange(
+                    builder.toUriString(),
+                    HttpMethod.GET,
+                    entity,
+                    ContentScrollResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().content()).hasSizeLessThanOrEqualTo(2);
+            response.getBody().content().forEach(c -> ids.add(c.id()));
+            cursor = response.getBody().nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).containsExactly(content3.getId(), content5.getId(), content2.getId(), content1.getId(),
+                content4.getId());
+    }
+
+    @Test
+    @DisplayName("[Browse] Scroll by rating ASC continues after the cursor and rejects a mismatched sort")
+    @SuppressWarnings("null")
+    void scrollContents_byRatingAsc() {
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        ResponseEntity<ContentScrollResponse> firstPage = restTemplate.exchange(
+                baseUrl + "/browse/scroll?sortBy=rating&sortDirection=asc&size=3",
+                HttpMethod.GET,
+                entity,
+                ContentScrollResponse.class);
+
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody().content()).extracting(ContentSummaryDTO::id)
+                .containsExactly(content5.getId(), content4.getId(), content2.getId());
+        String cursor = firstPage.getBody().nextCursor();
+        assertThat(cursor).isNotNull();
+
+        ResponseEntity<ContentScrollResponse> secondPage = restTemplate.exchange(
+                baseUrl + "/browse/scroll?sortBy=rating&sortDirection=asc&size=3&cursor=" + cursor,
+                HttpMethod.GET,
+                entity,
+                ContentScrollResponse.class);
+
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody().content()).extracting(ContentSummaryDTO::id)
+                .containsExactly(content1.getId(), content3.getId());
+        assertThat(secondPage.getBody().nextCursor()).isNull();
+
+        ResponseEntity<String> mismatchedSort = restTemplate.exchange(
+                baseUrl + "/browse/scroll?sortBy=uploadDate&size=3&cursor=" + cursor,
+                HttpMethod.GET,
+                entity,
+                String.class);
+        assertThat(mismatchedSort.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<String> invalidCursor = restTemplate.exchange(
+                baseUrl + "/browse/scroll?cursor=not-a-cursor",
+                HttpMethod.GET,
+                entity,
+                String.class);
+        assertThat(invalidCursor.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<String> oversized = restTemplate.exchange(
+                baseUrl + "/browse/scroll?size=" + Integer.MAX_VALUE,
+                HttpMethod.GET,
+                entity,
+                String.class);
+        assertThat(oversized.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     @DisplayName("[Browse] Sort by uploadDate ASC")
     @SuppressWarnings("null")
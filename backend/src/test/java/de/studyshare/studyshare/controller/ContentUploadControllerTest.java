@@ -0,0 +1,259 @@
+package de.studyshare.studyshare.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import de.studyshare.studyshare.AbstractFullIntegrationTest;
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Lecturer;
+import de.studyshare.studyshare.domain.Role;
+import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.UploadSessionDTO;
+import de.studyshare.studyshare.dto.request.UploadSessionCreateRequest;
+import de.studyshare.studyshare.repository.ContentRepository;
+import de.studyshare.studyshare.repository.CourseRepository;
+import de.studyshare.studyshare.repository.FacultyRepository;
+import de.studyshare.studyshare.repository.LecturerRepository;
+import de.studyshare.studyshare.repository.UserRepository;
+import de.studyshare.studyshare.service.JpaUserDetailsService;
+import de.studyshare.studyshare.service.JwtUtil;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "s3.multipart.part-size=5MB")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ContentUploadControllerTest extends AbstractFullIntegrationTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private ContentRepository contentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JpaUserDetailsService jpaUserDetailsService;
+
+    private String baseUrl;
+    private String testUserJwt;
+    private String otherUserJwt;
+    private Faculty faculty;
+    private Course course;
+    private Lecturer lecturer;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/contents";
+
+        User testUser = new User("Test", "User", "testuser@example.com", "testuser",
+                passwordEncoder.encode("password"), Role.STUDENT);
+        userRepository.save(testUser);
+        testUserJwt = jwtUtil.generateToken(jpaUserDetailsService.loadUserByUsername(testUser.getUsername()));
+
+        User otherUser = new User("Other", "User", "otheruser@example.com", "otheruser",
+                passwordEncoder.encode("password"), Role.STUDENT);
+        userRepository.save(otherUser);
+        otherUserJwt = jwtUtil.generateToken(jpaUserDetailsService.loadUserByUsername(otherUser.getUsername()));
+
+        faculty = new Faculty("Computer Science");
+        facultyRepository.save(faculty);
+        lecturer = new Lecturer("Prof. Doe", "doe@uni.edu");
+        lecturerRepository.save(lecturer);
+        course = new Course("Algorithms", faculty);
+        courseRepository.save(course);
+        course.addLecturer(lecturer);
+        courseRepository.save(course);
+    }
+
+    private HttpHeaders jwtHeaders(String userJwt) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(userJwt);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private UploadSessionCreateRequest sessionRequest(ContentCategory category, long fileSize) {
+        return new UploadSessionCreateRequest(category, course.getId(), lecturer.getId(), faculty.getId(),
+                "Lecture Recordings", "recordings.zip", fileSize, "application/zip");
+    }
+
+    private ResponseEntity<Void> uploadPart(Long sessionId, int partNumber, byte[] data) {
+        HttpHeaders headers = jwtHeaders(testUserJwt);
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        return restTemplate.exchange(baseUrl + "/uploads/" + sessionId + "/parts/" + partNumber, HttpMethod.PUT,
+                new HttpEntity<>(data, headers), Void.class);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should upload a large ZIP in parts, resume and download it")
+    void chunkedUpload_resumeAndComplete() {
+        byte[] file = new byte[PART_SIZE + 1024];
+        Arrays.fill(file, 0, PART_SIZE, (byte) 'a');
+        Arrays.fill(file, PART_SIZE, file.length, (byte) 'b');
+
+        ResponseEntity<UploadSessionDTO> createResp = restTemplate.exchange(baseUrl + "/uploads", HttpMethod.POST,
+                new HttpEntity<>(sessionRequest(ContentCategory.ZIP, file.length), jwtHeaders(testUserJwt)),
+                UploadSessionDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        UploadSessionDTO session = createResp.getBody();
+        assertThat(session.partSize()).isEqualTo(PART_SIZE);
+        assertThat(session.partCount()).isEqualTo(2);
+
+        // Upload the last part first, as a client resuming after a disconnect might.
+        assertThat(uploadPart(session.id(), 2, Arrays.copyOfRange(file, PART_SIZE, file.length)).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+
+        ResponseEntity<String> incompleteResp = restTemplate.exchange(
+                baseUrl + "/uploads/" + session.id() + "/complete", HttpMethod.POST,
+                new HttpEntity<>(jwtHeaders(testUserJwt)), String.class);
+        assertThat(incompleteResp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<UploadSessionDTO> statusResp = restTemplate.exchange(baseUrl + "/uploads/" + session.id(),
+                HttpMethod.GET, new HttpEntity<>(jwtHeaders(testUserJwt)), UploadSessionDTO.class);
+        assertThat(statusResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(statusResp.getBody().uploadedParts()).containsExactly(2);
+
+        assertThat(uploadPart(session.id(), 1, Arrays.copyOfRange(file, 0, PART_SIZE)).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+
+        ResponseEntity<ContentDTO> completeResp = restTemplate.exchange(
+                baseUrl + "/uploads/" + session.id() + "/complete", HttpMethod.POST,
+                new HttpEntity<>(jwtHeaders(testUserJwt)), ContentDTO.class);
+        assertThat(completeResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(completeResp.getBody().contentCategory()).isEqualTo(ContentCategory.ZIP);
+        assertThat(completeResp.getBody().title()).isEqualTo("Lecture Recordings");
+
+        ResponseEntity<byte[]> downloadResp = restTemplate.exchange(
+                baseUrl + "/download/" + completeResp.getBody().filePath(), HttpMethod.GET,
+                new HttpEntity<>(jwtHeaders(testUserJwt)), byte[].class);
+        assertThat(downloadResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(downloadResp.getBody()).isEqualTo(file);
+
+        ResponseEntity<String> sessionGoneResp = restTemplate.exchange(baseUrl + "/uploads/" + session.id(),
+                HttpMethod.GET, new HttpEntity<>(jwtHeaders(testUserJwt)), String.class);
+        assertThat(sessionGoneResp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should create the content only once when an upload is completed twice at the same time")
+    void completeUpload_concurrentCompletesCreateOneContent() {
+        byte[] file = new byte[PART_SIZE + 1024];
+        ResponseEntity<UploadSessionDTO> createResp = restTemplate.exchange(baseUrl + "/uploads", HttpMethod.POST,
+                new HttpEntity<>(sessionRequest(ContentCategory.ZIP, file.length), jwtHeaders(testUserJwt)),
+                UploadSessionDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Long sessionId = createResp.getBody().id();
+        assertThat(uploadPart(sessionId, 1, Arrays.copyOfRange(file, 0, PART_SIZE)).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(uploadPart(sessionId, 2, Arrays.copyOfRange(file, PART_SIZE, file.length)).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+
+        List<CompletableFuture<ResponseEntity<String>>> completions = List.of(
+                CompletableFuture.supplyAsync(() -> restTemplate.exchange(
+                        baseUrl + "/uploads/" + sessionId + "/complete", HttpMethod.POST,
+                        new HttpEntity<>(jwtHeaders(testUserJwt)), String.class)),
+                CompletableFuture.supplyAsync(() -> restTemplate.exchange(
+                        baseUrl + "/uploads/" + sessionId + "/complete", HttpMethod.POST,
+                        new HttpEntity<>(jwtHeaders(testUserJwt)), String.class)));
+        List<HttpStatus> statuses = completions.stream()
+                .map(CompletableFuture::join)
+                .map(response -> HttpStatus.valueOf(response.getStatusCode().value()))
+                .toList();
+
+        assertThat(statuses).containsOnlyOnce(HttpStatus.CREATED);
+        assertThat(statuses).allMatch(status -> status == HttpStatus.CREATED || status == HttpStatus.CONFLICT
+                || status == HttpStatus.NOT_FOUND);
+        assertThat(contentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject files over 10 MB that are not ZIP archives")
+    void createUploadSession_largeNonZipRejected() {
+        ResponseEntity<String> createResp = restTemplate.exchange(baseUrl + "/uploads", HttpMethod.POST,
+                new HttpEntity<>(sessionRequest(ContentCategory.PDF, 50L * 1024 * 1024), jwtHeaders(testUserJwt)),
+                String.class);
+
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should reject parts of the wrong size")
+    void uploadPart_wrongSizeRejected() {
+        ResponseEntity<UploadSessionDTO> createResp = restTemplate.exchange(baseUrl + "/uploads", HttpMethod.POST,
+                new HttpEntity<>(sessionRequest(ContentCategory.ZIP, 2L * PART_SIZE), jwtHeaders(testUserJwt)),
+                UploadSessionDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        ResponseEntity<Void> partResp = uploadPart(createResp.getBody().id(), 1, new byte[1024]);
+
+        assertThat(partResp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should hide upload sessions from other users and allow aborting")
+    void abortUpload_onlyByOwner() {
+        ResponseEntity<UploadSessionDTO> createResp = restTemplate.exchange(baseUrl + "/uploads", HttpMethod.POST,
+                new HttpEntity<>(sessionRequest(ContentCategory.ZIP, 2L * PART_SIZE), jwtHeaders(testUserJwt)),
+                UploadSessionDTO.class);
+        assertThat(createResp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String sessionUrl = baseUrl + "/uploads/" + createResp.getBody().id();
+
+        ResponseEntity<Void> otherAbortResp = restTemplate.exchange(sessionUrl, HttpMethod.DELETE,
+                new HttpEntity<>(jwtHeaders(otherUserJwt)), Void.class);
+        assertThat(otherAbortResp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<Void> abortResp = restTemplate.exchange(sessionUrl, HttpMethod.DELETE,
+                new HttpEntity<>(jwtHeaders(testUserJwt)), Void.class);
+        assertThat(abortResp.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        ResponseEntity<String> goneResp = restTemplate.exchange(sessionUrl, HttpMethod.GET,
+                new HttpEntity<>(jwtHeaders(testUserJwt)), String.class);
+        assertThat(goneResp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
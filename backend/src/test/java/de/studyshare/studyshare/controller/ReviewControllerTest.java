@@ -26,9 +26,12 @@ import de.studyshare.studyshare.domain.Faculty;
 import de.studyshare.studyshare.domain.Lecturer;
 import de.studyshare.studyshare.domain.Role;
 import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.dto.entity.RatingSummaryDTO;
 import de.studyshare.studyshare.dto.entity.ReviewDTO;
+import de.studyshare.studyshare.dto.entity.ReviewSummaryDTO;
 import de.studyshare.studyshare.dto.request.ReviewCreateRequest;
 import de.studyshare.studyshare.dto.request.ReviewUpdateRequest;
+import de.studyshare.studyshare.dto.response.ReviewScrollResponse;
 import de.studyshare.studyshare.repository.ContentRepository;
 import de.studyshare.studyshare.repository.CourseRepository;
 import de.studyshare.studyshare.repository.FacultyRepository;
@@ -202,6 +205,83 @@ class ReviewControllerTest extends AbstractDatabaseIntegrationTest {
         assertThat(resp.getBody().length).isGreaterThanOrEqualTo(1);
     }
 
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should scroll review summaries newest first with truncated comments")
+    void scrollReviewsForContent_authenticated() {
+        String longComment = "x".repeat(ReviewSummaryDTO.COMMENT_EXCERPT_LENGTH + 50);
+        restTemplate.exchange(baseUrl + "/" + content.getId() + "/reviews", HttpMethod.POST,
+                new HttpEntity<>(new ReviewCreateRequest(4, "First", "Short"), jwtHeaders(testUserJwt)),
+                ReviewDTO.class);
+        restTemplate.exchange(baseUrl + "/" + content.getId() + "/reviews", HttpMethod.POST,
+                new HttpEntity<>(new ReviewCreateRequest(5, "Second", longComment), jwtHeaders(adminUserJwt)),
+                ReviewDTO.class);
+
+        HttpEntity<Void> getEntity = new HttpEntity<>(jwtHeaders(anotherUserJwt));
+        ResponseEntity<ReviewScrollResponse> first = restTemplate.exchange(
+                baseUrl + "/" + content.getId() + "/reviews/scroll?size=1", HttpMethod.GET, getEntity,
+                ReviewScrollResponse.class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody().content()).hasSize(1);
+        ReviewSummaryDTO newest = first.getBody().content().get(0);
+        assertThat(newest.subject()).isEqualTo("Second");
+        assertThat(newest.username()).isEqualTo("admin");
+        assertThat(newest.commentExcerpt()).hasSize(ReviewSummaryDTO.COMMENT_EXCERPT_LENGTH);
+        assertThat(newest.commentTruncated()).isTrue();
+        assertThat(first.getBody().nextCursor()).isNotNull();
+
+        ResponseEntity<ReviewScrollResponse> second = restTemplate.exchange(
+                baseUrl + "/" + content.getId() + "/reviews/scroll?size=1&cursor=" + first.getBody().nextCursor(),
+                HttpMethod.GET, getEntity, ReviewScrollResponse.class);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody().content()).extracting(ReviewSummaryDTO::subject).containsExactly("First");
+        assertThat(second.getBody().content().get(0).commentTruncated()).isFalse();
+        assertThat(second.getBody().nextCursor()).isNull();
+
+        ResponseEntity<String> missing = restTemplate.exchange(
+                baseUrl + "/" + (content.getId() + 999) + "/reviews/scroll", HttpMethod.GET, getEntity,
+                String.class);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<String> oversized = restTemplate.exchange(
+                baseUrl + "/" + content.getId() + "/reviews/scroll?size=" + Integer.MAX_VALUE, HttpMethod.GET,
+                getEntity, String.class);
+        assertThat(oversized.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("Should keep the rating summary up to date when reviews change")
+    void getRatingSummary_followsReviewChanges() {
+        String summaryUrl = baseUrl + "/" + content.getId() + "/reviews/summary";
+        HttpEntity<Void> getEntity = new HttpEntity<>(jwtHeaders(anotherUserJwt));
+        ResponseEntity<RatingSummaryDTO> empty = restTemplate.exchange(summaryUrl, HttpMethod.GET, getEntity,
+                RatingSummaryDTO.class);
+        assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(empty.getBody().totalCount()).isZero();
+
+        ResponseEntity<ReviewDTO> created = restTemplate.exchange(baseUrl + "/" + content.getId() + "/reviews",
+                HttpMethod.POST,
+                new HttpEntity<>(new ReviewCreateRequest(2, "Meh", "Too short"), jwtHeaders(testUserJwt)),
+                ReviewDTO.class);
+        restTemplate.exchange(baseUrl + "/" + content.getId() + "/reviews", HttpMethod.POST,
+                new HttpEntity<>(new ReviewCreateRequest(5, "Great", "Very helpful"), jwtHeaders(adminUserJwt)),
+                ReviewDTO.class);
+        restTemplate.exchange(baseUrl + "/" + content.getId() + "/reviews/" + created.getBody().id(),
+                HttpMethod.PUT,
+                new HttpEntity<>(new ReviewUpdateRequest(4, "Better", "Too short, but correct"), jwtHeaders(testUserJwt)),
+                ReviewDTO.class);
+
+        ResponseEntity<RatingSummaryDTO> resp = restTemplate.exchange(summaryUrl, HttpMethod.GET, getEntity,
+                RatingSummaryDTO.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody().twoStarCount()).isZero();
+        assertThat(resp.getBody().fourStarCount()).isEqualTo(1);
+        assertThat(resp.getBody().fiveStarCount()).isEqualTo(1);
+        assertThat(resp.getBody().totalCount()).isEqualTo(2);
+        assertThat(resp.getBody().averageRating()).isEqualTo(4.5);
+    }
+
     @SuppressWarnings("null")
     @Test
     @DisplayName("Should get review by ID as authenticated user")
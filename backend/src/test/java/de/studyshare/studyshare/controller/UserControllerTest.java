@@ -231,6 +231,21 @@ class UserControllerTest extends AbstractDatabaseIntegrationTest{
         assertThat(getResp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("Should reject the tokens of a deleted user")
+    void deleteUser_revokesTokens() {
+        HttpEntity<Void> entity = new HttpEntity<>(jwtHeaders(testUserJwt));
+        HttpEntity<Void> entityAdmin = new HttpEntity<>(jwtHeaders(adminUserJwt));
+        ResponseEntity<String> beforeResp = restTemplate.exchange(baseUrl + "/" + testUser.getId(), HttpMethod.GET, entity, String.class);
+        assertThat(beforeResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<Void> resp = restTemplate.exchange(baseUrl + "/" + testUser.getId(), HttpMethod.DELETE, entityAdmin, Void.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        ResponseEntity<String> afterResp = restTemplate.exchange(baseUrl + "/" + testUser.getId(), HttpMethod.GET, entity, String.class);
+        assertThat(afterResp.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
     @Test
     @DisplayName("Should not delete other user as non-admin")
     void deleteUser_asOtherUser_forbidden() {
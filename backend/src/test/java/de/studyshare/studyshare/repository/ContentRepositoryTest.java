@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -21,10 +26,14 @@ import de.studyshare.studyshare.domain.ContentCategory;
 import de.studyshare.studyshare.domain.Course;
 import de.studyshare.studyshare.domain.Faculty;
 import de.studyshare.studyshare.domain.Lecturer;
+import de.studyshare.studyshare.domain.Review;
 import de.studyshare.studyshare.domain.Role;
 import de.studyshare.studyshare.domain.User;
+import de.studyshare.studyshare.dto.entity.ContentDTO;
+import de.studyshare.studyshare.dto.entity.RatingSummaryDTO;
+import de.studyshare.studyshare.service.ContentSpecifications;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class ContentRepositoryTest extends AbstractDatabaseIntegrationTest{
 
     @Autowired
@@ -252,4 +261,142 @@ public class ContentRepositoryTest extends AbstractDatabaseIntegrationTest{
         assertThat(updatedContent).isNotNull();
         assertThat(updatedContent.getOutdatedCount()).isEqualTo(initialOutdatedCount + 1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should load a browse page and its associations in a fixed number of statements")
+    public void shouldLoadBrowsePageWithoutNPlusOneSelects() {
+        // Given 29 PDFs spread over many courses, two lecturers and many uploaders
+        Lecturer otherLecturer = new Lecturer("Dr. Johnson", "dr.johnson@university.edu");
+        entityManager.persist(otherLecturer);
+        course.addLecturer(lecturer);
+        course.addLecturer(otherLecturer);
+        for (int i = 0; i < 28; i++) {
+            User uploader = new User("Uploader", "No" + i, "uploader" + i + "@example.com", "uploader" + i,
+                    "password123hash", Role.STUDENT);
+            entityManager.persist(uploader);
+            Course pageCourse = new Course("Course " + i, faculty);
+            pageCourse.addLecturer(i % 2 == 0 ? lecturer : otherLecturer);
+            entityManager.persist(pageCourse);
+
+            Content content = new Content();
+            content.setTitle("Page Content " + i);
+            content.setFilePath("/path/to/page" + i + ".pdf");
+            content.setContentCategory(ContentCategory.PDF);
+            content.setUploadedBy(uploader);
+            content.setUploadDate(LocalDate.now().minusDays(i + 2));
+            content.setCourse(pageCourse);
+            content.setFaculty(faculty);
+            content.setLecturer(i % 2 == 0 ? lecturer : otherLecturer);
+            entityManager.persist(content);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Page<Content> page = contentRepository.findAll(
+                ContentSpecifications.filterBy(faculty.getId(), null, null, ContentCategory.PDF, null),
+                PageRequest.of(0, 20, Sort.by("uploadDate")));
+        List<ContentDTO> dtos = page.map(ContentDTO::fromEntity).getContent();
+
+        // Then: one select for the page, one count, and one batch each for the
+        // lecturers of the courses and the courses of the lecturers
+        assertThat(dtos).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(29);
+        assertThat(dtos).allSatisfy(dto -> {
+            assertThat(dto.uploadedBy()).isNotNull();
+            assertThat(dto.course().faculty()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should maintain the average rating from running totals")
+    public void shouldApplyRatingDeltas() {
+        // When
+        contentRepository.applyRatingDelta(content1.getId(), 5, 1);
+        contentRepository.applyRatingDelta(content1.getId(), 4, 1);
+        entityManager.clear();
+
+        // Then
+        Content rated = contentRepository.findById(content1.getId()).orElseThrow();
+        assertThat(rated.getRatingSum()).isEqualTo(9);
+        assertThat(rated.getRatingCount()).isEqualTo(2);
+        assertThat(rated.getAverageRating()).isEqualTo(4.5);
+
+        // When the reviews are removed again
+        contentRepository.applyRatingDelta(content1.getId(), -5, -1);
+        contentRepository.applyRatingDelta(content1.getId(), -4, -1);
+        entityManager.clear();
+
+        // Then
+        Content unrated = contentRepository.findById(content1.getId()).orElseThrow();
+        assertThat(unrated.getRatingCount()).isZero();
+        assertThat(unrated.getAverageRating()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Should repair ratings that drifted from the reviews")
+    public void shouldReconcileDriftedRatings() {
+        // Given a review stored without updating the content's totals
+        entityManager.persist(new Review(3, "Okay", "Could be more detailed.", user, content1));
+        entityManager.flush();
+
+        // When
+        int repaired = contentRepository.reconcileRatings(1, contentRepository.findMaxId());
+        entityManager.clear();
+
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        Content reconciled = contentRepository.findById(content1.getId()).orElseThrow();
+        assertThat(reconciled.getRatingSum()).isEqualTo(3);
+        assertThat(reconciled.getRatingCount()).isEqualTo(1);
+        assertThat(reconciled.getAverageRating()).isEqualTo(3.0);
+        assertThat(reconciled.getThreeStarCount()).isEqualTo(1);
+        assertThat(contentRepository.reconcileRatings(1, contentRepository.findMaxId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should round averages like 3.25 half up both incrementally and when reconciling")
+    public void shouldRoundAveragesLikeReconciliation() {
+        // Given reviews of 4, 4, 3 and 2 stars, which average exactly 3.25
+        for (int stars : new int[] { 4, 4, 3, 2 }) {
+            entityManager.persist(new Review(stars, "Review", "Seeded review.", user, content1));
+            contentRepository.applyRatingDelta(content1.getId(), stars, 1);
+            contentRepository.applyStarCountDelta(content1.getId(), 0, stars);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(contentRepository.findById(content1.getId()).orElseThrow().getAverageRating()).isEqualTo(3.3);
+
+        // When the ratings are reconciled, nothing has drifted
+        assertThat(contentRepository.reconcileRatings(1, contentRepository.findMaxId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move reviews between the star counts of the rating summary")
+    public void shouldApplyStarCountDeltas() {
+        // Given two reviews, one of which is changed from 2 to 4 stars
+        contentRepository.applyRatingDelta(content1.getId(), 7, 2);
+        contentRepository.applyStarCountDelta(content1.getId(), 0, 5);
+        contentRepository.applyStarCountDelta(content1.getId(), 0, 2);
+        contentRepository.applyRatingDelta(content1.getId(), 2, 0);
+        contentRepository.applyStarCountDelta(content1.getId(), 2, 4);
+
+        // When
+        RatingSummaryDTO summary = contentRepository.findRatingSummary(content1.getId()).orElseThrow();
+
+        // Then
+        assertThat(summary.twoStarCount()).isZero();
+        assertThat(summary.fourStarCount()).isEqualTo(1);
+        assertThat(summary.fiveStarCount()).isEqualTo(1);
+        assertThat(summary.totalCount()).isEqualTo(2);
+        assertThat(summary.averageRating()).isEqualTo(4.5);
+        assertThat(contentRepository.findRatingSummary(-1L)).isEmpty();
+    }
+}
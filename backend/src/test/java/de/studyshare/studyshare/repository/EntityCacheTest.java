@@ -0,0 +1,79 @@
+package de.studyshare.studyshare.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.studyshare.studyshare.AbstractDatabaseIntegrationTest;
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Lecturer;
+
+/**
+ * Runs without the test transaction, since the second-level cache is only
+ * filled and updated by committed transactions.
+ */
+@DataJpaTest(properties = "entity-cache.statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest extends AbstractDatabaseIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve a course and its lecturers from the cache until the lecturers change")
+    void course_servedFromCacheAndUpdatedByLecturerChanges() {
+        Faculty faculty = facultyRepository.save(new Faculty("Computer Science"));
+        Lecturer lecturer1 = lecturerRepository.save(new Lecturer("John Doe", "john.doe@example.com"));
+        Lecturer lecturer2 = lecturerRepository.save(new Lecturer("Jane Smith", "jane.smith@example.com"));
+        Long courseId = transactionTemplate.execute(status -> {
+            Course course = new Course("Programming 101", faculty);
+            course.addLecturer(lecturerRepository.getReferenceById(lecturer1.getId()));
+            return courseRepository.save(course).getId();
+        });
+
+        assertThat(lecturerNames(courseId)).containsExactly("John Doe");
+        statistics.clear();
+        assertThat(lecturerNames(courseId)).containsExactly("John Doe");
+        assertThat(statistics.getDomainDataRegionStatistics(Course.class.getName()).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(Course.class.getName() + ".lecturers").getHitCount())
+                .isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            course.removeLecturer(lecturerRepository.findById(lecturer1.getId()).orElseThrow());
+            lecturerRepository.findById(lecturer2.getId()).orElseThrow().addCourse(course);
+        });
+        assertThat(lecturerNames(courseId)).containsExactly("Jane Smith");
+    }
+
+    private List<String> lecturerNames(Long courseId) {
+        return transactionTemplate.execute(status -> courseRepository.findById(courseId).orElseThrow()
+                .getLecturers().stream()
+                .map(Lecturer::getName)
+                .toList());
+    }
+}
@@ -0,0 +1,31 @@
+package de.studyshare.studyshare.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import de.studyshare.studyshare.AbstractDatabaseIntegrationTest;
+
+@DataJpaTest
+class SchedulerLockRepositoryTest extends AbstractDatabaseIntegrationTest {
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Test
+    @DisplayName("Should grant a lease to one node until it is released")
+    void acquire_grantsLeaseToOneNode() {
+        assertThat(schedulerLockRepository.insertIfMissing("cleanup")).isEqualTo(1);
+        assertThat(schedulerLockRepository.insertIfMissing("cleanup")).isZero();
+
+        assertThat(schedulerLockRepository.acquire("cleanup", "node-a", 600)).isEqualTo(1);
+        assertThat(schedulerLockRepository.acquire("cleanup", "node-b", 600)).isZero();
+
+        assertThat(schedulerLockRepository.release("cleanup", "node-b")).isZero();
+        assertThat(schedulerLockRepository.release("cleanup", "node-a")).isEqualTo(1);
+        assertThat(schedulerLockRepository.acquire("cleanup", "node-b", 600)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,162 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import de.studyshare.studyshare.AbstractFullIntegrationTest;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Measures download throughput against the MinIO test container with many
+ * concurrent readers, comparing the previous unpooled URLConnection transport
+ * with the pooled synchronous client the application uses and a pooled
+ * asynchronous Netty client.
+ * Excluded from the default build; run with {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AwsServiceThroughputTest extends AbstractFullIntegrationTest {
+
+    private static final int OBJECT_COUNT = 32;
+    private static final int OBJECT_SIZE = 1024 * 1024;
+    private static final int CONCURRENCY = 32;
+    private static final int ROUNDS = 4;
+
+    @Autowired
+    private AwsService awsService;
+
+    @Value("${s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${s3.endpoint}")
+    private String endpoint;
+
+    @Value("${s3.access-key}")
+    private String accessKey;
+
+    @Value("${s3.secret-key}")
+    private String secretKey;
+
+    private final List<String> keys = new ArrayList<>();
+
+    @BeforeEach
+    void uploadObjects() {
+        byte[] data = new byte[OBJECT_SIZE];
+        new Random(42).nextBytes(data);
+        keys.clear();
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            String key = "throughput-" + i;
+            awsService.uploadFile(bucketName, key, data.length, "application/octet-stream",
+                    new ByteArrayInputStream(data));
+            keys.add(key);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report download throughput of each S3 transport")
+    void concurrentDownloadThroughput() throws Exception {
+        try (S3Client urlConnectionClient = S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)))
+                .forcePathStyle(true)
+                .httpClient(UrlConnectionHttpClient.create())
+                .build()) {
+
+            // Warm up connections and the JIT before measuring.
+            measure("warm-up", key -> CompletableFuture.completedFuture(
+                    awsService.downloadFile(bucketName, key)));
+
+            double urlConnection = measure("url-connection (sync)", key -> CompletableFuture.completedFuture(
+                    urlConnectionClient.getObject(builder -> builder.bucket(bucketName).key(key))));
+            double apache = measure("apache pooled (sync)", key -> CompletableFuture.completedFuture(
+                    awsService.downloadFile(bucketName, key)));
+            double netty;
+            try (S3AsyncClient nettyClient = S3AsyncClient.builder()
+                    .endpointOverride(URI.create(endpoint))
+                    .region(Region.US_EAST_1)
+                    .credentialsProvider(StaticCredentialsProvider.create(
+                            AwsBasicCredentials.create(accessKey, secretKey)))
+                    .forcePathStyle(true)
+                    .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(CONCURRENCY))
+                    .build()) {
+                netty = measure("netty pooled (async)", key -> nettyClient.getObject(
+                        builder -> builder.bucket(bucketName).key(key),
+                        AsyncResponseTransformer.toBlockingInputStream()));
+            }
+
+            assertThat(urlConnection).isPositive();
+            assertThat(apache).isPositive();
+            assertThat(netty).isPositive();
+        }
+    }
+
+    /**
+     * Downloads every object {@link #ROUNDS} times with {@link #CONCURRENCY}
+     * requests in flight and prints the resulting throughput. The download
+     * function is called on a reader thread, so synchronous clients may block.
+     */
+    private double measure(String transport,
+            Function<String, CompletableFuture<? extends InputStream>> download) throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            long start = System.nanoTime();
+            List<CompletableFuture<Long>> reads = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String key : keys) {
+                    reads.add(CompletableFuture.supplyAsync(() -> download.apply(key).join(), readers)
+                            .thenApplyAsync(AwsServiceThroughputTest::drain, readers));
+                }
+            }
+            long bytes = 0;
+            for (CompletableFuture<Long> read : reads) {
+                bytes += read.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            double megabytesPerSecond = bytes / (1024.0 * 1024.0) / seconds;
+
+            assertThat(bytes).isEqualTo((long) OBJECT_SIZE * OBJECT_COUNT * ROUNDS);
+            System.out.printf("S3 throughput %-24s %8.1f MB/s (%d requests, %d concurrent)%n",
+                    transport, megabytesPerSecond, reads.size(), CONCURRENCY);
+            return megabytesPerSecond;
+        } finally {
+            readers.shutdown();
+        }
+    }
+
+    private static long drain(InputStream in) {
+        try (in) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
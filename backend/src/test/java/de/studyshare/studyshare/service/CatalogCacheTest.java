@@ -0,0 +1,116 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import de.studyshare.studyshare.domain.CatalogEntityType;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.repository.CatalogChangeRepository;
+import de.studyshare.studyshare.repository.CatalogVersionRepository;
+import de.studyshare.studyshare.repository.CourseRepository;
+import de.studyshare.studyshare.repository.FacultyRepository;
+import de.studyshare.studyshare.repository.LecturerRepository;
+
+class CatalogCacheTest {
+
+    private FacultyRepository facultyRepository;
+    private CatalogChangeRepository catalogChangeRepository;
+    private CatalogVersionRepository catalogVersionRepository;
+    private CatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        facultyRepository = mock(FacultyRepository.class);
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        LecturerRepository lecturerRepository = mock(LecturerRepository.class);
+        when(facultyRepository.findAll()).thenReturn(List.of(new Faculty(1L, "Engineering")));
+        when(courseRepository.findAll()).thenReturn(List.of());
+        when(lecturerRepository.findAll()).thenReturn(List.of());
+        catalogChangeRepository = mock(CatalogChangeRepository.class);
+        catalogVersionRepository = mock(CatalogVersionRepository.class);
+        when(catalogVersionRepository.findCurrentVersion()).thenReturn(7L);
+        catalogCache = new CatalogCache(facultyRepository, courseRepository, lecturerRepository,
+                catalogChangeRepository, catalogVersionRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load the catalog once and answer from memory")
+    void snapshot_loadsOnce() {
+        CatalogCache.Snapshot first = catalogCache.snapshot();
+        CatalogCache.Snapshot second = catalogCache.snapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.version()).isEqualTo(7L);
+        assertThat(first.faculties()).extracting("name").containsExactly("Engineering");
+        assertThat(first.facultyMap().get(1L).name()).isEqualTo("Engineering");
+        verify(facultyRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reload for a newer version only if the database is ahead")
+    void snapshotAtLeast_reloadsOnlyIfDatabaseIsAhead() {
+        CatalogCache.Snapshot first = catalogCache.snapshot();
+
+        assertThat(catalogCache.snapshotAtLeast(999_999_999L)).isSameAs(first);
+        verify(facultyRepository, times(1)).findAll();
+
+        when(catalogVersionRepository.findCurrentVersion()).thenReturn(8L);
+        CatalogCache.Snapshot reloaded = catalogCache.snapshotAtLeast(8L);
+        assertThat(reloaded.version()).isEqualTo(8L);
+        verify(facultyRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should bump the version, log a change and reload the catalog only after the changing transaction commits")
+    void recordChange_reloadsAfterCommit() {
+        CatalogCache.Snapshot before = catalogCache.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogCache.recordChange(CatalogEntityType.FACULTY, 1L);
+        verify(catalogVersionRepository).increment();
+        verify(catalogChangeRepository).saveAll(anyList());
+        assertThat(catalogCache.snapshot()).isSameAs(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(catalogCache.snapshot()).isNotSameAs(before);
+        verify(facultyRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should bump the version once per change and not at all without changed entities")
+    void recordChanges_incrementsOncePerChange() {
+        catalogCache.recordChanges(Map.of(CatalogEntityType.COURSE, List.of()));
+        verify(catalogVersionRepository, never()).increment();
+        verify(catalogChangeRepository, never()).saveAll(anyList());
+
+        catalogCache.recordChanges(Map.of(
+                CatalogEntityType.LECTURER, List.of(1L),
+                CatalogEntityType.COURSE, List.of(2L, 3L, 2L)));
+        verify(catalogVersionRepository, times(1)).increment();
+        verify(catalogChangeRepository).saveAll(argThat(changes -> ((List<?>) changes).size() == 3));
+    }
+}
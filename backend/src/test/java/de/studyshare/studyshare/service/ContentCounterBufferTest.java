@@ -0,0 +1,131 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ContentCounterBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ContentCounterBuffer buffer;
+
+    /**
+     * Report and outdated counts per content ID, as written by the flushes.
+     */
+    private final Map<Long, long[]> flushed = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(eq(ContentCounterBuffer.FLUSH_SQL), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            for (Object[] row : batch) {
+                long[] counts = flushed.computeIfAbsent((Long) row[2], id -> new long[2]);
+                counts[0] += (Long) row[0];
+                counts[1] += (Long) row[1];
+            }
+            return new int[batch.size()];
+        });
+        buffer = new ContentCounterBuffer(jdbcTemplate, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("Should not lose clicks that arrive while flushing")
+    void flush_concurrentClicksAreNotLost() throws Exception {
+        int threads = 8;
+        int clicksPerThread = 20000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> clickers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                clickers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < clicksPerThread; i++) {
+                        buffer.addReport((long) (i % 3));
+                        buffer.addOutdatedMark(1L);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            while (clickers.stream().anyMatch(clicker -> !clicker.isDone())) {
+                buffer.flush();
+            }
+            for (Future<?> clicker : clickers) {
+                clicker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        buffer.flush();
+
+        long reports = flushed.values().stream().mapToLong(counts -> counts[0]).sum();
+        assertThat(reports).isEqualTo((long) threads * clicksPerThread);
+        assertThat(flushed.get(1L)[1]).isEqualTo((long) threads * clicksPerThread);
+    }
+
+    @Test
+    @DisplayName("Should keep clicks of a failed flush for the next one")
+    void flush_failedBatchIsRetried() {
+        buffer.addReport(7L);
+        buffer.addReport(7L);
+        when(jdbcTemplate.batchUpdate(eq(ContentCounterBuffer.FLUSH_SQL), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenAnswer(invocation -> {
+                    List<Object[]> batch = invocation.getArgument(1);
+                    flushed.put((Long) batch.get(0)[2], new long[] { (Long) batch.get(0)[0], (Long) batch.get(0)[1] });
+                    return new int[batch.size()];
+                });
+
+        assertThat(buffer.flush()).isZero();
+        assertThat(buffer.flush()).isEqualTo(1);
+
+        assertThat(flushed.get(7L)).containsExactly(2L, 0L);
+        assertThat(buffer.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should only buffer clicks of committed transactions")
+    void add_waitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.addReport(3L);
+            assertThat(buffer.flush()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.addOutdatedMark(3L);
+            // Rolled back: afterCommit is never called.
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(buffer.flush()).isEqualTo(1);
+        assertThat(flushed.get(3L)).containsExactly(1L, 0L);
+    }
+}
@@ -0,0 +1,134 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.studyshare.studyshare.AbstractDatabaseIntegrationTest;
+import de.studyshare.studyshare.domain.Content;
+import de.studyshare.studyshare.domain.ContentCategory;
+import de.studyshare.studyshare.domain.Course;
+import de.studyshare.studyshare.domain.Faculty;
+import de.studyshare.studyshare.domain.Role;
+import de.studyshare.studyshare.domain.User;
+
+/**
+ * Reports one content item from many threads at once and compares the former
+ * read-modify-write update with the atomic UPDATE and the buffered counters.
+ * Every click comes from a different user, as repeated reports are rejected.
+ * Each click inserts its content signal in all modes, so the buffered mode
+ * only shows the gain of batching the counter UPDATE of the content row.
+ * Excluded from the default build; run with {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ContentCounterThroughputTest extends AbstractDatabaseIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int CLICKS_PER_THREAD = 100;
+
+    @Autowired
+    private ContentService contentService;
+
+    @Autowired
+    private ContentCounterBuffer contentCounterBuffer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long contentId;
+
+    private final AtomicLong nextUserId = new AtomicLong(1000);
+
+    @BeforeEach
+    void createContent() {
+        User user = userRepository.save(new User("Test", "User", "testuser@example.com", "testuser",
+                "hash", Role.STUDENT));
+        Faculty faculty = facultyRepository.save(new Faculty("Computer Science"));
+        Course course = courseRepository.save(new Course("Algorithms", faculty));
+        contentId = contentRepository.save(new Content("Popular Notes", "/path/to/notes.pdf", ContentCategory.PDF,
+                faculty, course, null, user, LocalDate.now(), 0, 0)).getId();
+    }
+
+    @Test
+    @DisplayName("Should count every concurrent report and report the throughput of each path")
+    void concurrentReportThroughput() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int clicks = THREADS * CLICKS_PER_THREAD;
+
+        measure("read-modify-write", () -> transactionTemplate.execute(status -> {
+            Content content = contentRepository.findById(contentId).orElseThrow();
+            content.setReportedCount(content.getReportedCount() + 1);
+            return contentRepository.save(content);
+        }));
+        int readModifyWrite = reportedCount();
+        System.out.printf("read-modify-write lost %d of %d reports%n", clicks - readModifyWrite, clicks);
+
+        measure("atomic update", () -> contentService.incrementReportCount(contentId));
+        assertThat(reportedCount()).isEqualTo(readModifyWrite + clicks);
+
+        ReflectionTestUtils.setField(contentCounterBuffer, "enabled", true);
+        try {
+            measure("buffered", () -> contentService.incrementReportCount(contentId));
+            contentCounterBuffer.flush();
+        } finally {
+            ReflectionTestUtils.setField(contentCounterBuffer, "enabled", false);
+        }
+        assertThat(reportedCount()).isEqualTo(readModifyWrite + 2 * clicks);
+    }
+
+    private int reportedCount() {
+        return contentRepository.findById(contentId).orElseThrow().getReportedCount();
+    }
+
+    private void measure(String path, Callable<?> click) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> clickers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                clickers.add(executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < CLICKS_PER_THREAD; i++) {
+                            long userId = nextUserId.incrementAndGet();
+                            UserPrincipal principal = new UserPrincipal(userId, "user" + userId, "", List.of());
+                            SecurityContextHolder.getContext().setAuthentication(
+                                    new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+                            click.call();
+                        }
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> clicker : clickers) {
+                clicker.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Report throughput %-18s %10.0f clicks/s (%d threads)%n",
+                    path, THREADS * CLICKS_PER_THREAD / seconds, THREADS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.studyshare.studyshare.domain.ContentSignalType;
+import de.studyshare.studyshare.repository.ContentSignalRepository;
+
+class ContentSignalIndexTest {
+
+    private ContentSignalRepository repository;
+    private ContentSignalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ContentSignalRepository.class);
+        index = new ContentSignalIndex(repository);
+        index.init();
+    }
+
+    @Test
+    @DisplayName("Should load the signals of a content item once and answer from memory")
+    void contains_loadsOncePerContent() {
+        when(repository.findUserIds(1L, ContentSignalType.REPORT)).thenReturn(List.of(5L, 7L));
+
+        assertThat(index.contains(1L, ContentSignalType.REPORT, 5L)).isTrue();
+        assertThat(index.contains(1L, ContentSignalType.REPORT, 6L)).isFalse();
+        assertThat(index.contains(1L, ContentSignalType.REPORT, 7L)).isTrue();
+        assertThat(index.contains(1L, ContentSignalType.OUTDATED, 5L)).isFalse();
+
+        verify(repository, times(1)).findUserIds(1L, ContentSignalType.REPORT);
+    }
+
+    @Test
+    @DisplayName("Should remember signals added after loading")
+    void add_updatesLoadedBitmap() {
+        when(repository.findUserIds(1L, ContentSignalType.OUTDATED)).thenReturn(List.of());
+        assertThat(index.contains(1L, ContentSignalType.OUTDATED, 9L)).isFalse();
+
+        index.add(1L, ContentSignalType.OUTDATED, 9L);
+
+        assertThat(index.contains(1L, ContentSignalType.OUTDATED, 9L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave user IDs beyond the bitmap range to the database")
+    void contains_largeUserIdsAreNeverKnown() {
+        long largeId = Integer.MAX_VALUE + 1L;
+        index.add(1L, ContentSignalType.REPORT, largeId);
+
+        assertThat(index.contains(1L, ContentSignalType.REPORT, largeId)).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import de.studyshare.studyshare.AbstractDatabaseIntegrationTest;
+import de.studyshare.studyshare.StudyShareApplication;
+
+/**
+ * Runs a second application context against the same database to check that
+ * tokens blocklisted on one node are rejected by the other after it polled.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class DatabaseBlocklistSyncChannelTest extends AbstractDatabaseIntegrationTest {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenBlocklistService tokenBlocklistService;
+
+    @Autowired
+    private DatabaseBlocklistSyncChannel blocklistSyncChannel;
+
+    private ConfigurableApplicationContext startOtherNode() {
+        return new SpringApplicationBuilder(StudyShareApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + environment.getProperty("spring.datasource.url"),
+                        "spring.datasource.username=" + environment.getProperty("spring.datasource.username"),
+                        "spring.datasource.password=" + environment.getProperty("spring.datasource.password"),
+                        "spring.jpa.hibernate.ddl-auto=none")
+                .run();
+    }
+
+    @Test
+    @DisplayName("Should propagate blocklisted tokens between nodes")
+    void poll_propagatesBlocklistBetweenNodes() {
+        try (ConfigurableApplicationContext otherNode = startOtherNode()) {
+            TokenBlocklistService otherBlocklist = otherNode.getBean(TokenBlocklistService.class);
+            DatabaseBlocklistSyncChannel otherChannel = otherNode.getBean(DatabaseBlocklistSyncChannel.class);
+            blocklistSyncChannel.poll();
+            otherChannel.poll();
+
+            String token = jwtUtil.generateToken("testuser");
+            tokenBlocklistService.addToBlocklist(token);
+            assertThat(otherBlocklist.isBlocklisted(token)).isFalse();
+
+            assertThat(otherChannel.poll()).isEqualTo(1);
+            assertThat(otherBlocklist.isBlocklisted(token)).isTrue();
+
+            String otherToken = jwtUtil.generateToken("otheruser");
+            otherBlocklist.addToBlocklist(otherToken);
+
+            blocklistSyncChannel.poll();
+            assertThat(tokenBlocklistService.isBlocklisted(otherToken)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "515c5eca00fa1f93d12c06d3e1594f86e21bea5aa42feb64eb172faf7114aafc"
+            + "70f5193ebcc16db05da0ef71b97f9bb354d79c27c5cc13aa209a34c7305c1096";
+
+    private JwtUtil jwtUtil;
+
+    private JwtUtil newJwtUtil(long expirationMs) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", SECRET);
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(util, "verifiedTokenCacheSize", 100L);
+        util.init();
+        return util;
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(60000);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and answer repeated checks from the cache")
+    void parse_cachesVerifiedClaims() {
+        String token = jwtUtil.generateToken("testuser");
+
+        JwtClaims claims = jwtUtil.parse(token);
+
+        assertThat(claims.subject()).isEqualTo("testuser");
+        assertThat(claims.jti()).isNotBlank();
+        assertThat(claims.isExpired()).isFalse();
+        assertThat(jwtUtil.parse(token)).isSameAs(claims);
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("testuser");
+        assertThat(jwtUtil.extractJti(token)).isEqualTo(claims.jti());
+        assertThat(jwtUtil.validateToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should carry the user ID and roles, so the principal can be rebuilt from the token")
+    void generateToken_carriesUserIdAndRoles() {
+        UserPrincipal principal = new UserPrincipal(42L, "testuser", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        String token = jwtUtil.generateToken(principal);
+
+        JwtClaims claims = jwtUtil.parse(token);
+        UserPrincipal rebuilt = UserPrincipal.fromClaims(claims);
+
+        assertThat(claims.hasAuthorities()).isTrue();
+        assertThat(rebuilt.id()).isEqualTo(42L);
+        assertThat(rebuilt.getUsername()).isEqualTo("testuser");
+        assertThat(rebuilt.getPassword()).isNull();
+        assertThat(rebuilt.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        assertThat(jwtUtil.parse(jwtUtil.generateToken("testuser")).hasAuthorities()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens even if the original token is cached")
+    void parse_rejectsTamperedToken() {
+        String token = jwtUtil.generateToken("testuser");
+        jwtUtil.parse(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"admin\",\"jti\":\"x\"}".getBytes());
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtUtil.parse(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(jwtUtil.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject expired tokens")
+    void parse_rejectsExpiredToken() {
+        JwtUtil expiringJwtUtil = newJwtUtil(-1000);
+        String token = expiringJwtUtil.generateToken("testuser");
+
+        assertThatThrownBy(() -> expiringJwtUtil.parse(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(expiringJwtUtil.validateToken(token)).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import de.studyshare.studyshare.domain.BlocklistedToken;
+import de.studyshare.studyshare.repository.BlocklistedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBlocklistServiceTest {
+
+    private BlocklistedTokenRepository repository;
+    private JwtUtil jwtUtil;
+    private SchedulerLockService schedulerLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenBlocklistService tokenBlocklistService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(BlocklistedTokenRepository.class);
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 60000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 100L);
+        jwtUtil.init();
+        schedulerLockService = mock(SchedulerLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenBlocklistService = new TokenBlocklistService(repository, jwtUtil, mock(BlocklistSyncChannel.class),
+                schedulerLockService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should answer unknown JTIs without querying the database")
+    void isJtiBlocklisted_unknownJtiSkipsDatabase() {
+        tokenBlocklistService.loadBlocklist();
+
+        assertThat(tokenBlocklistService.isJtiBlocklisted("unknown")).isFalse();
+        verify(repository, never()).existsByJti(anyString());
+    }
+
+    @Test
+    @DisplayName("Should keep rejecting tokens blocklisted before a restart")
+    void loadBlocklist_restoresJtisFromDatabase() {
+        when(repository.findByExpiryDateAfter(any())).thenReturn(
+                List.of(new BlocklistedToken("revoked", Instant.now().plus(1, ChronoUnit.HOURS))));
+        when(repository.existsByJti("revoked")).thenReturn(true);
+
+        tokenBlocklistService.loadBlocklist();
+
+        assertThat(tokenBlocklistService.isJtiBlocklisted("revoked")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a token right after it was blocklisted")
+    void addToBlocklist_updatesMemory() {
+        String token = jwtUtil.generateToken("testuser");
+        String jti = jwtUtil.extractJti(token);
+        when(repository.existsByJti(jti)).thenReturn(false);
+
+        tokenBlocklistService.addToBlocklist(token);
+        when(repository.existsByJti(jti)).thenReturn(true);
+
+        assertThat(tokenBlocklistService.isBlocklisted(token)).isTrue();
+        verify(repository).save(any(BlocklistedToken.class));
+    }
+
+    @Test
+    @DisplayName("Should forget JTIs of expired tokens on cleanup")
+    void cleanupExpiredTokens_prunesMemory() {
+        when(repository.findByExpiryDateAfter(any())).thenReturn(
+                List.of(new BlocklistedToken("expired", Instant.now().minus(1, ChronoUnit.MINUTES))));
+        when(repository.existsByJti("expired")).thenReturn(true);
+        tokenBlocklistService.loadBlocklist();
+        ReflectionTestUtils.setField(tokenBlocklistService, "activeProfiles", "test");
+
+        tokenBlocklistService.cleanupExpiredTokens();
+
+        assertThat(tokenBlocklistService.isJtiBlocklisted("expired")).isFalse();
+        verify(repository, never()).existsByJti(anyString());
+    }
+
+    @Test
+    @DisplayName("Should delete expired tokens in batches until none are left")
+    void deleteExpiredTokens_deletesInBatches() {
+        ReflectionTestUtils.setField(tokenBlocklistService, "cleanupBatchSize", 2);
+        when(repository.deleteExpiredBatch(any(), eq(2))).thenReturn(2, 2, 1);
+
+        long deleted = tokenBlocklistService.deleteExpiredTokens(Instant.now());
+
+        assertThat(deleted).isEqualTo(5);
+        verify(repository, times(3)).deleteExpiredBatch(any(), eq(2));
+        assertThat(meterRegistry.get("studyshare.blocklist.cleanup.deleted").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("studyshare.blocklist.cleanup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave the cleanup to the node holding the lease")
+    void cleanupExpiredTokens_skipsWithoutLease() {
+        ReflectionTestUtils.setField(tokenBlocklistService, "activeProfiles", "");
+        when(schedulerLockService.tryAcquire(eq(TokenBlocklistService.CLEANUP_LOCK), any())).thenReturn(false);
+
+        tokenBlocklistService.cleanupExpiredTokens();
+
+        verify(repository, never()).deleteExpiredBatch(any(), anyInt());
+        verify(schedulerLockService, never()).release(anyString());
+    }
+}
@@ -0,0 +1,83 @@
+package de.studyshare.studyshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.studyshare.studyshare.AbstractDatabaseIntegrationTest;
+import de.studyshare.studyshare.StudyShareApplication;
+
+/**
+ * Runs a second application context against the same database to check that
+ * users invalidated on one node are rejected by the other after it polled,
+ * and that rolled back invalidations have no effect.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class UserInvalidationRegistryTest extends AbstractDatabaseIntegrationTest {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private UserInvalidationRegistry userInvalidationRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ConfigurableApplicationContext startOtherNode() {
+        return new SpringApplicationBuilder(StudyShareApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + environment.getProperty("spring.datasource.url"),
+                        "spring.datasource.username=" + environment.getProperty("spring.datasource.username"),
+                        "spring.datasource.password=" + environment.getProperty("spring.datasource.password"),
+                        "spring.jpa.hibernate.ddl-auto=none")
+                .run();
+    }
+
+    @Test
+    @DisplayName("Should propagate user invalidations between nodes")
+    void poll_propagatesInvalidationsBetweenNodes() {
+        try (ConfigurableApplicationContext otherNode = startOtherNode()) {
+            UserInvalidationRegistry otherRegistry = otherNode.getBean(UserInvalidationRegistry.class);
+            userInvalidationRegistry.poll();
+            otherRegistry.poll();
+            Instant issuedBefore = Instant.now().minusSeconds(60);
+
+            transactionTemplate.executeWithoutResult(status -> userInvalidationRegistry.invalidate("deleteduser"));
+            assertThat(userInvalidationRegistry.isInvalidated("deleteduser", issuedBefore)).isTrue();
+            assertThat(otherRegistry.isInvalidated("deleteduser", issuedBefore)).isFalse();
+
+            assertThat(otherRegistry.poll()).isEqualTo(1);
+            assertThat(otherRegistry.isInvalidated("deleteduser", issuedBefore)).isTrue();
+            assertThat(otherRegistry.isInvalidated("deleteduser", Instant.now().plusSeconds(60))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations of rolled back transactions")
+    void invalidate_rolledBack() {
+        userInvalidationRegistry.poll();
+        Instant issuedBefore = Instant.now().minusSeconds(60);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userInvalidationRegistry.invalidate("keptuser");
+            status.setRollbackOnly();
+        });
+
+        assertThat(userInvalidationRegistry.isInvalidated("keptuser", issuedBefore)).isFalse();
+        assertThat(userInvalidationRegistry.poll()).isZero();
+        assertThat(userInvalidationRegistry.isInvalidated("keptuser", issuedBefore)).isFalse();
+    }
+}